@@ -0,0 +1,254 @@
+package thd.game.level;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The world of a level in the binary format of the {@link LevelCompiler}. The spawn records are read one after another
+ * like with a cursor: {@link #hasRecord()} tells if there is a current record, its values are returned by the getters
+ * and {@link #next()} moves on to the following record. The records come from the bottom row of the world to the top
+ * row.
+ */
+public class CompiledLevel {
+    private static final String RESOURCE_DIRECTORY = "/resources/levels/";
+
+    private final ByteBuffer records;
+    private final int worldOffsetColumns;
+    private final int worldOffsetLines;
+    private final int numberOfRows;
+    private final int numberOfRecords;
+    private int numberOfReadRecords;
+    private boolean hasRecord;
+    private int row;
+    private int column;
+    private char character;
+    private int flags;
+
+    /**
+     * Reads a compiled level from the given buffer, starting at its current position.
+     *
+     * @param compiledLevel The compiled level.
+     * @throws IllegalArgumentException if the buffer does not contain a compiled level.
+     */
+    public CompiledLevel(ByteBuffer compiledLevel) {
+        records = compiledLevel.duplicate();
+        if (records.remaining() < Integer.BYTES || records.getInt() != LevelCompiler.MAGIC_NUMBER) {
+            throw new IllegalArgumentException("The buffer does not contain a compiled level!");
+        }
+        int version = readVarInt(records);
+        if (version != LevelCompiler.VERSION) {
+            throw new IllegalArgumentException("Unsupported version of a compiled level: " + version);
+        }
+        records.position(records.position() + LevelCompiler.DIGEST_LENGTH);
+        worldOffsetColumns = readVarInt(records);
+        worldOffsetLines = readVarInt(records);
+        numberOfRows = readVarInt(records);
+        numberOfRecords = readVarInt(records);
+        row = numberOfRows;
+        next();
+    }
+
+    /**
+     * Returns the compiled world of the level. The compiled file from the level resources is mapped into memory, if
+     * it exists and was compiled from the current world string and offsets. Otherwise the world string is compiled now.
+     *
+     * @param level The level.
+     * @return The compiled level, positioned at its first record.
+     */
+    public static CompiledLevel of(Level level) {
+        return new CompiledLevel(load(level));
+    }
+
+    /**
+     * Returns the buffer with the compiled world of the level, see {@link #of(Level)}.
+     *
+     * @param level The level.
+     * @return The compiled level, positioned at its header.
+     */
+    static ByteBuffer load(Level level) {
+        ByteBuffer compiledLevel = loadCompiledFile(level);
+        return compiledLevel != null ? compiledLevel : LevelCompiler.compile(level);
+    }
+
+    /**
+     * Returns the buffer from the compiled file of the level, if it exists and was compiled from the current world
+     * string and offsets.
+     *
+     * @param level The level.
+     * @return The compiled level, positioned at its header, or <code>null</code>.
+     */
+    static ByteBuffer loadCompiledFile(Level level) {
+        ByteBuffer compiledLevel = readResource(level);
+        return compiledLevel != null && isCompiledFrom(compiledLevel, level) ? compiledLevel : null;
+    }
+
+    private static boolean isCompiledFrom(ByteBuffer compiledLevel, Level level) {
+        ByteBuffer header = compiledLevel.duplicate();
+        try {
+            if (header.getInt() != LevelCompiler.MAGIC_NUMBER || readVarInt(header) != LevelCompiler.VERSION) {
+                return false;
+            }
+            byte[] digest = new byte[LevelCompiler.DIGEST_LENGTH];
+            header.get(digest);
+            return Arrays.equals(digest, LevelCompiler.digestOf(level))
+                    && readVarInt(header) == level.worldOffsetColumns
+                    && readVarInt(header) == level.worldOffsetLines;
+        } catch (BufferUnderflowException e) {
+            return false;
+        }
+    }
+
+    private static ByteBuffer readResource(Level level) {
+        URL resource = CompiledLevel.class.getResource(RESOURCE_DIRECTORY + LevelCompiler.fileNameOf(level));
+        if (resource == null) {
+            return null;
+        }
+        try {
+            if ("file".equals(resource.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Path.of(resource.toURI()), StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            try (InputStream inputStream = resource.openStream()) {
+                return ByteBuffer.wrap(inputStream.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading the compiled level: " + resource, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid path of the compiled level: " + resource, e);
+        }
+    }
+
+    /**
+     * Determines if there is a current record.
+     *
+     * @return <code>false</code> if all records have been read.
+     */
+    public boolean hasRecord() {
+        return hasRecord;
+    }
+
+    /**
+     * Moves on to the next record.
+     */
+    public void next() {
+        if (numberOfReadRecords == numberOfRecords) {
+            hasRecord = false;
+            return;
+        }
+        int rowDistance = readVarInt(records);
+        int columnDistance = readVarInt(records);
+        row -= rowDistance;
+        column = rowDistance > 0 ? columnDistance : column + columnDistance;
+        character = (char) records.get();
+        flags = records.get();
+        numberOfReadRecords++;
+        hasRecord = true;
+    }
+
+    /**
+     * Returns the row of the current record in the world string.
+     *
+     * @return The row, 0 is the top row.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Returns the column of the current record in the world string.
+     *
+     * @return The column, 0 is the leftmost column.
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Returns the character of the current record, which stands for the type of the game object.
+     *
+     * @return The character from the world string.
+     */
+    public char getCharacter() {
+        return character;
+    }
+
+    /**
+     * Determines if the current record lies in the left half of its row.
+     *
+     * @return <code>true</code> for the left half.
+     */
+    public boolean isInLeftHalf() {
+        return (flags & LevelCompiler.FLAG_LEFT_HALF) != 0;
+    }
+
+    /**
+     * Determines if the current record lies above the window, when the level starts.
+     *
+     * @return <code>true</code> if the row is above the window.
+     */
+    public boolean isAboveWindow() {
+        return (flags & LevelCompiler.FLAG_ABOVE_WINDOW) != 0;
+    }
+
+    int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Returns the number of columns the world is moved to the left.
+     *
+     * @return The offset columns of the level.
+     */
+    public int getWorldOffsetColumns() {
+        return worldOffsetColumns;
+    }
+
+    /**
+     * Returns the number of rows of the world that lie above the window, when the level starts.
+     *
+     * @return The offset lines of the level.
+     */
+    public int getWorldOffsetLines() {
+        return worldOffsetLines;
+    }
+
+    /**
+     * Returns the number of rows of the world.
+     *
+     * @return Number of rows.
+     */
+    public int getNumberOfRows() {
+        return numberOfRows;
+    }
+
+    /**
+     * Returns the number of spawn records of the world.
+     *
+     * @return Number of records.
+     */
+    public int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte part;
+        do {
+            part = buffer.get();
+            value |= (part & 0x7F) << shift;
+            shift += 7;
+        } while (part < 0);
+        return value;
+    }
+}
@@ -0,0 +1,27 @@
+package thd.game.level;
+
+/**
+ * A level without an end. Its world is not stored in a string, but generated chunk by chunk from a seed while the
+ * level is played, see {@link RiverGenerator}.
+ */
+public class EndlessLevel extends Level {
+
+    /**
+     * Seed of the generated river. The same seed always generates the same river.
+     */
+    public final long seed;
+
+    /**
+     * Creates the endless level with the river of the given seed.
+     *
+     * @param seed Seed of the generated river.
+     */
+    public EndlessLevel(long seed) {
+        name = "Endless River";
+        number = 13;
+        world = "";
+        worldOffsetColumns = 0;
+        worldOffsetLines = RiverGenerator.WORLD_OFFSET_LINES;
+        this.seed = seed;
+    }
+}
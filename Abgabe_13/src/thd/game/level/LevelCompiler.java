@@ -0,0 +1,160 @@
+package thd.game.level;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Compiles the world strings of the levels into a compact binary format, that can be read without scanning the
+ * strings character by character. The compiled file starts with a header, followed by one spawn record for every
+ * character of the world, that is not a '.' or a blank. The records are sorted from the bottom row to the top row and
+ * from left to right within a row, the order in which the world is streamed into the game. The world string is parsed
+ * in parallel by {@link LevelTemplate#parse(Level)}.
+ * <p>
+ * Header: the magic number, the format version, the SHA-256 digest of the world string, the offset columns and lines
+ * of the level, the number of rows and the number of records. Record: the distance in rows to the previous record, the
+ * column (relative to the previous record in the same row), the character and the flags. All numbers except the magic
+ * number are written as unsigned variable length integers with 7 bits per byte.
+ * <p>
+ * The compiler can be run as a program, it writes the files of all levels to the directory of the level resources.
+ */
+public class LevelCompiler {
+    static final int MAGIC_NUMBER = 0x52524C56;
+    static final int VERSION = 2;
+    static final int DIGEST_LENGTH = 32;
+    static final int FLAG_LEFT_HALF = 1;
+    static final int FLAG_ABOVE_WINDOW = 2;
+    private static final int FIRST_COLUMN_OF_RIGHT_HALF = 40;
+    private static final Path DEFAULT_OUTPUT_DIRECTORY = Path.of("src", "resources", "levels");
+
+    /**
+     * Compiles the world of the level.
+     *
+     * @param level The level to compile.
+     * @return The compiled level, ready to be read from position 0.
+     */
+    public static ByteBuffer compile(Level level) {
+        LevelTemplate template = LevelTemplate.parse(level);
+        ByteArrayOutputStream records = new ByteArrayOutputStream(template.getNumberOfRecords() * 4);
+        int previousRow = template.getNumberOfRows();
+        int previousColumn = -1;
+        for (int index = 0; index < template.getNumberOfRecords(); index++) {
+            int row = template.getRow(index);
+            int column = template.getColumn(index);
+            if (row != previousRow) {
+                previousColumn = -1;
+            }
+            writeVarInt(records, previousRow - row);
+            writeVarInt(records, previousColumn < 0 ? column : column - previousColumn);
+            records.write(template.getCharacter(index));
+            records.write(template.getFlags(index));
+            previousRow = row;
+            previousColumn = column;
+        }
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        writeInt(header, MAGIC_NUMBER);
+        writeVarInt(header, VERSION);
+        header.writeBytes(digestOf(level));
+        writeVarInt(header, level.worldOffsetColumns);
+        writeVarInt(header, level.worldOffsetLines);
+        writeVarInt(header, template.getNumberOfRows());
+        writeVarInt(header, template.getNumberOfRecords());
+        ByteBuffer compiledLevel = ByteBuffer.allocate(header.size() + records.size());
+        compiledLevel.put(header.toByteArray()).put(records.toByteArray()).flip();
+        return compiledLevel;
+    }
+
+    /**
+     * Returns the flags of the record for a character of the world string.
+     *
+     * @param level  The level.
+     * @param row    The row of the character.
+     * @param column The column of the character.
+     * @return The flags of the record.
+     */
+    static int flagsOf(Level level, int row, int column) {
+        int flags = 0;
+        if (column < FIRST_COLUMN_OF_RIGHT_HALF) {
+            flags |= FLAG_LEFT_HALF;
+        }
+        if (row < level.worldOffsetLines) {
+            flags |= FLAG_ABOVE_WINDOW;
+        }
+        return flags;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the world string of the level. A compiled file is only used, if it was compiled
+     * from a world string with the same digest.
+     *
+     * @param level The level.
+     * @return The digest with {@link #DIGEST_LENGTH} bytes.
+     */
+    static byte[] digestOf(Level level) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(level.world.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available!", e);
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream output, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Only positive numbers can be written as variable length integers!");
+        }
+        while (value >= 0x80) {
+            output.write(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    private static void writeInt(ByteArrayOutputStream output, int value) {
+        output.write(value >>> 24);
+        output.write(value >>> 16);
+        output.write(value >>> 8);
+        output.write(value);
+    }
+
+    /**
+     * Returns the name of the compiled file of a level.
+     *
+     * @param level The level.
+     * @return The file name, relative to the directory of the level resources.
+     */
+    static String fileNameOf(Level level) {
+        return "level" + level.number + ".bin";
+    }
+
+    /**
+     * Compiles all levels and writes them to the given directory or to <code>src/resources/levels</code>.
+     *
+     * @param args The output directory as the optional first argument.
+     */
+    public static void main(String[] args) {
+        Path outputDirectory = args.length > 0 ? Path.of(args[0]) : DEFAULT_OUTPUT_DIRECTORY;
+        List<Level> levels = List.of(
+                new Level1(), new Level2(), new Level3(), new Level4(), new Level5(), new Level6(),
+                new Level7(), new Level8(), new Level9(), new Level10(), new Level11(), new Level12()
+        );
+        try {
+            Files.createDirectories(outputDirectory);
+            for (Level level : levels) {
+                ByteBuffer compiledLevel = compile(level);
+                byte[] bytes = new byte[compiledLevel.remaining()];
+                compiledLevel.get(bytes);
+                Files.write(outputDirectory.resolve(fileNameOf(level)), bytes);
+                System.out.println(level.name + ": " + level.world.length() + " characters -> " + bytes.length + " bytes");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while writing the compiled levels to " + outputDirectory, e);
+        }
+    }
+}
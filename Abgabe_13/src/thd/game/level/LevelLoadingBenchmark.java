@@ -0,0 +1,112 @@
+package thd.game.level;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares how long it takes to read the spawn positions of all levels from the world strings and from the compiled
+ * levels of the {@link LevelCompiler}. Both ways visit the same characters in the same order, the results are summed
+ * up, so that the work can not be skipped by the JIT compiler. Afterwards a large world, made of all levels one after
+ * another, is parsed into a {@link LevelTemplate} with one thread and with all threads of the common pool.
+ */
+public class LevelLoadingBenchmark {
+    private static final int WARM_UP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+    private static final int REPETITIONS_OF_LARGE_WORLD = 100;
+    private static final int PARSING_ROUNDS = 50;
+
+    /**
+     * Runs the benchmark and prints the average time per level for both ways.
+     *
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        List<Level> levels = List.of(
+                new Level1(), new Level2(), new Level3(), new Level4(), new Level5(), new Level6(),
+                new Level7(), new Level8(), new Level9(), new Level10(), new Level11(), new Level12()
+        );
+        ByteBuffer[] compiledLevels = new ByteBuffer[levels.size()];
+        for (int index = 0; index < levels.size(); index++) {
+            compiledLevels[index] = CompiledLevel.load(levels.get(index));
+        }
+        if (readWorldStrings(levels) != readCompiledLevels(compiledLevels)) {
+            throw new IllegalStateException("The compiled levels do not match the world strings!");
+        }
+        long checksum = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            checksum += readWorldStrings(levels) + readCompiledLevels(compiledLevels);
+        }
+        long startTime = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            checksum += readWorldStrings(levels);
+        }
+        long worldStringTime = System.nanoTime() - startTime;
+        startTime = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            checksum += readCompiledLevels(compiledLevels);
+        }
+        long compiledLevelTime = System.nanoTime() - startTime;
+        int readLevels = MEASURED_ROUNDS * levels.size();
+        System.out.printf("World strings:   %8.2f us per level%n", worldStringTime / 1000.0 / readLevels);
+        System.out.printf("Compiled levels: %8.2f us per level%n", compiledLevelTime / 1000.0 / readLevels);
+        System.out.println("Checksum: " + checksum);
+        measureParsingOfLargeWorld(levels);
+    }
+
+    private static void measureParsingOfLargeWorld(List<Level> levels) {
+        StringBuilder world = new StringBuilder();
+        for (int repetition = 0; repetition < REPETITIONS_OF_LARGE_WORLD; repetition++) {
+            for (Level level : levels) {
+                world.append(level.world);
+            }
+        }
+        Level largeLevel = new Level();
+        largeLevel.world = world.toString();
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        long singleThreadTime = measureParsing(largeLevel, singleThread);
+        long commonPoolTime = measureParsing(largeLevel, ForkJoinPool.commonPool());
+        singleThread.shutdown();
+        int numberOfRecords = LevelTemplate.parse(largeLevel).getNumberOfRecords();
+        System.out.printf("Large world with %d records:%n", numberOfRecords);
+        System.out.printf("  1 thread:   %8.2f ms%n", singleThreadTime / 1e6);
+        System.out.printf("  %d threads: %8.2f ms%n", ForkJoinPool.commonPool().getParallelism(), commonPoolTime / 1e6);
+    }
+
+    private static long measureParsing(Level level, ForkJoinPool pool) {
+        for (int round = 0; round < PARSING_ROUNDS; round++) {
+            LevelTemplate.parse(level, pool);
+        }
+        long startTime = System.nanoTime();
+        for (int round = 0; round < PARSING_ROUNDS; round++) {
+            LevelTemplate.parse(level, pool);
+        }
+        return (System.nanoTime() - startTime) / PARSING_ROUNDS;
+    }
+
+    private static long readWorldStrings(List<Level> levels) {
+        long sum = 0;
+        for (Level level : levels) {
+            String[] rows = level.world.split("\\R");
+            for (int row = rows.length - 1; row >= 0; row--) {
+                for (int column = 0; column < rows[row].length(); column++) {
+                    char character = rows[row].charAt(column);
+                    if (character != '.' && !Character.isWhitespace(character)) {
+                        sum += row * 31L + column + character;
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static long readCompiledLevels(ByteBuffer[] compiledLevels) {
+        long sum = 0;
+        for (ByteBuffer compiledLevel : compiledLevels) {
+            for (CompiledLevel records = new CompiledLevel(compiledLevel); records.hasRecord(); records.next()) {
+                sum += records.getRow() * 31L + records.getColumn() + records.getCharacter();
+            }
+        }
+        return sum;
+    }
+}
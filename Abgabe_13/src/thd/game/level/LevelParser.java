@@ -0,0 +1,105 @@
+package thd.game.level;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Reads the spawn records of a world string in parallel. The rows are split into ranges, which are scanned by the
+ * threads of a fork join pool, and the records of the ranges are joined in the order of the template: from the bottom
+ * row to the top row and from left to right within a row. Nothing is created here except the records, the game objects
+ * are created one after another by the game, when their rows are streamed.
+ */
+@SuppressWarnings("serial")
+final class LevelParser extends RecursiveTask<LevelParser.Records> {
+    private static final int ROWS_PER_TASK = 16;
+
+    private final Level level;
+    private final String[] rows;
+    private final int firstRow;
+    private final int endRow;
+
+    LevelParser(Level level, String[] rows, int firstRow, int endRow) {
+        this.level = level;
+        this.rows = rows;
+        this.firstRow = firstRow;
+        this.endRow = endRow;
+    }
+
+    @Override
+    protected Records compute() {
+        if (endRow - firstRow <= ROWS_PER_TASK) {
+            return scanRows();
+        }
+        int middleRow = (firstRow + endRow) >>> 1;
+        LevelParser upperRows = new LevelParser(level, rows, firstRow, middleRow);
+        upperRows.fork();
+        Records records = new LevelParser(level, rows, middleRow, endRow).compute();
+        records.append(upperRows.join());
+        return records;
+    }
+
+    private Records scanRows() {
+        Records records = new Records((endRow - firstRow) * 2);
+        for (int row = endRow - 1; row >= firstRow; row--) {
+            String currentRow = rows[row];
+            for (int column = 0; column < currentRow.length(); column++) {
+                char character = currentRow.charAt(column);
+                if (character == '.' || Character.isWhitespace(character)) {
+                    continue;
+                }
+                if (character > Byte.MAX_VALUE) {
+                    throw new IllegalArgumentException("Only ASCII characters can be used in levels: " + character);
+                }
+                records.add(row, column, character, LevelCompiler.flagsOf(level, row, column));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * The spawn records of a range of rows, in the order of the template.
+     */
+    static final class Records {
+        int[] rows;
+        int[] columns;
+        char[] characters;
+        byte[] flags;
+        int size;
+
+        private Records(int capacity) {
+            capacity = Math.max(capacity, 8);
+            rows = new int[capacity];
+            columns = new int[capacity];
+            characters = new char[capacity];
+            flags = new byte[capacity];
+        }
+
+        private void add(int row, int column, char character, int flagsOfRecord) {
+            ensureCapacity(size + 1);
+            rows[size] = row;
+            columns[size] = column;
+            characters[size] = character;
+            flags[size] = (byte) flagsOfRecord;
+            size++;
+        }
+
+        private void append(Records following) {
+            ensureCapacity(size + following.size);
+            System.arraycopy(following.rows, 0, rows, size, following.size);
+            System.arraycopy(following.columns, 0, columns, size, following.size);
+            System.arraycopy(following.characters, 0, characters, size, following.size);
+            System.arraycopy(following.flags, 0, flags, size, following.size);
+            size += following.size;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > rows.length) {
+                int newCapacity = Math.max(capacity, rows.length * 2);
+                rows = Arrays.copyOf(rows, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+                characters = Arrays.copyOf(characters, newCapacity);
+                flags = Arrays.copyOf(flags, newCapacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package thd.game.level;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The spawn records of a level, read once from its {@link CompiledLevel} or parsed from its world string and kept for
+ * the whole run of the game. The template does not change, so it can be shared by every start of the level and by
+ * several threads. The records are sorted from the bottom row of the world to the top row and are accessed by their
+ * index.
+ */
+public final class LevelTemplate {
+    private static final Map<Class<? extends Level>, LevelTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final int worldOffsetColumns;
+    private final int worldOffsetLines;
+    private final int numberOfRows;
+    private final int[] rows;
+    private final int[] columns;
+    private final char[] characters;
+    private final byte[] flags;
+
+    private LevelTemplate(CompiledLevel compiledLevel) {
+        worldOffsetColumns = compiledLevel.getWorldOffsetColumns();
+        worldOffsetLines = compiledLevel.getWorldOffsetLines();
+        numberOfRows = compiledLevel.getNumberOfRows();
+        int numberOfRecords = compiledLevel.getNumberOfRecords();
+        rows = new int[numberOfRecords];
+        columns = new int[numberOfRecords];
+        characters = new char[numberOfRecords];
+        flags = new byte[numberOfRecords];
+        for (int index = 0; compiledLevel.hasRecord(); index++, compiledLevel.next()) {
+            rows[index] = compiledLevel.getRow();
+            columns[index] = compiledLevel.getColumn();
+            characters[index] = compiledLevel.getCharacter();
+            flags[index] = (byte) compiledLevel.getFlags();
+        }
+    }
+
+    private LevelTemplate(Level level, int numberOfRows, LevelParser.Records records) {
+        worldOffsetColumns = level.worldOffsetColumns;
+        worldOffsetLines = level.worldOffsetLines;
+        this.numberOfRows = numberOfRows;
+        rows = Arrays.copyOf(records.rows, records.size);
+        columns = Arrays.copyOf(records.columns, records.size);
+        characters = Arrays.copyOf(records.characters, records.size);
+        flags = Arrays.copyOf(records.flags, records.size);
+    }
+
+    /**
+     * Returns the template of the level. When it is needed for the first time, it is read from the compiled file of
+     * the level. If there is no file or it was compiled from another world string, the world string is parsed.
+     *
+     * @param level The level.
+     * @return The template of the level.
+     */
+    public static LevelTemplate of(Level level) {
+        return TEMPLATES.computeIfAbsent(level.getClass(), type -> {
+            ByteBuffer compiledLevel = CompiledLevel.loadCompiledFile(level);
+            return compiledLevel != null ? new LevelTemplate(new CompiledLevel(compiledLevel)) : parse(level);
+        });
+    }
+
+    /**
+     * Parses the world string of the level with the threads of the common fork join pool. The rows are scanned in
+     * parallel, so large or generated worlds are read faster on several cores. The template is not cached.
+     *
+     * @param level The level.
+     * @return The new template.
+     */
+    public static LevelTemplate parse(Level level) {
+        return parse(level, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses the world string of the level with the threads of the given pool, see {@link #parse(Level)}.
+     *
+     * @param level The level.
+     * @param pool  The pool, that scans the rows.
+     * @return The new template.
+     */
+    static LevelTemplate parse(Level level, ForkJoinPool pool) {
+        String[] rows = level.world.split("\\R");
+        return new LevelTemplate(level, rows.length, pool.invoke(new LevelParser(level, rows, 0, rows.length)));
+    }
+
+    /**
+     * Returns the number of spawn records.
+     *
+     * @return Number of records.
+     */
+    public int getNumberOfRecords() {
+        return rows.length;
+    }
+
+    /**
+     * Returns the row of a record in the world string.
+     *
+     * @param index Index of the record.
+     * @return The row, 0 is the top row.
+     */
+    public int getRow(int index) {
+        return rows[index];
+    }
+
+    /**
+     * Returns the column of a record in the world string.
+     *
+     * @param index Index of the record.
+     * @return The column, 0 is the leftmost column.
+     */
+    public int getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Returns the character of a record, which stands for the type of the game object.
+     *
+     * @param index Index of the record.
+     * @return The character from the world string.
+     */
+    public char getCharacter(int index) {
+        return characters[index];
+    }
+
+    /**
+     * Determines if a record lies in the left half of its row.
+     *
+     * @param index Index of the record.
+     * @return <code>true</code> for the left half.
+     */
+    public boolean isInLeftHalf(int index) {
+        return (flags[index] & LevelCompiler.FLAG_LEFT_HALF) != 0;
+    }
+
+    /**
+     * Determines if a record lies above the window, when the level starts.
+     *
+     * @param index Index of the record.
+     * @return <code>true</code> if the row is above the window.
+     */
+    public boolean isAboveWindow(int index) {
+        return (flags[index] & LevelCompiler.FLAG_ABOVE_WINDOW) != 0;
+    }
+
+    /**
+     * Returns the flags of a record, as they are written by the {@link LevelCompiler}.
+     *
+     * @param index Index of the record.
+     * @return The flags of the record.
+     */
+    int getFlags(int index) {
+        return flags[index];
+    }
+
+    /**
+     * Returns the number of columns the world is moved to the left.
+     *
+     * @return The offset columns of the level.
+     */
+    public int getWorldOffsetColumns() {
+        return worldOffsetColumns;
+    }
+
+    /**
+     * Returns the number of rows of the world that lie above the window, when the level starts.
+     *
+     * @return The offset lines of the level.
+     */
+    public int getWorldOffsetLines() {
+        return worldOffsetLines;
+    }
+
+    /**
+     * Returns the number of rows of the world.
+     *
+     * @return Number of rows.
+     */
+    public int getNumberOfRows() {
+        return numberOfRows;
+    }
+}
@@ -0,0 +1,168 @@
+package thd.game.level;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates the river of the {@link EndlessLevel} chunk by chunk. Every chunk is written as a world string with the
+ * characters of the normal levels and parsed into a {@link LevelTemplate}, so the same game objects are created as in
+ * the normal levels. A chunk starts at the bridge of the chunk below it: the banks open up, wind along the river with
+ * islands, enemies and fuel items and close again at the bridge at the top of the chunk.
+ * <p>
+ * The chunks are placed one above the other. Chunk <code>n</code> is a level with the world offset lines of the first
+ * chunk plus <code>n</code> times the height of a chunk, so the coordinates of its records continue the coordinates
+ * of the chunk below it. The generator keeps only the banks of the last row, so the memory it needs does not grow.
+ */
+public class RiverGenerator {
+    static final int ROWS_PER_CHUNK = 40;
+    static final int WORLD_OFFSET_LINES = ROWS_PER_CHUNK - 14;
+    private static final int COLUMNS = 117;
+    private static final int BANK_WIDTH_IN_COLUMNS = 9;
+    private static final int BRIDGE_ROW = 2;
+    private static final int ROWS_TO_CLOSE_THE_BANKS = 8;
+    private static final int LEFT_BANK_AT_BRIDGE = 44;
+    private static final int RIGHT_BANK_AT_BRIDGE = 67;
+    private static final int MOST_LEFT_BANK = 10;
+    private static final int MOST_RIGHT_BANK = 94;
+    private static final int NARROWEST_RIVER = 22;
+    private static final int RIVER_WIDE_ENOUGH_FOR_ISLAND = 36;
+    private static final int ROWS_BETWEEN_ISLANDS = 7;
+    private static final char[] ENEMIES_AND_FUEL = {'S', 'S', 'S', 'H', 'H', 'H', 'B', 'B', 'F', 'F'};
+    private static final char[] SCENERY = {'t', 't', 't', 'Y', 'Y', 'Z', 'Z', 'A'};
+
+    private final Random random;
+    private final char[][] rows;
+    private int leftBank;
+    private int rightBank;
+    private int rowsSinceLastIsland;
+    private int numberOfChunks;
+
+    /**
+     * Creates a new generator. The same seed always generates the same river.
+     *
+     * @param seed The seed of the river.
+     */
+    public RiverGenerator(long seed) {
+        random = new Random(seed);
+        rows = new char[ROWS_PER_CHUNK][COLUMNS];
+        leftBank = LEFT_BANK_AT_BRIDGE;
+        rightBank = RIGHT_BANK_AT_BRIDGE;
+        rowsSinceLastIsland = ROWS_BETWEEN_ISLANDS;
+    }
+
+    /**
+     * Generates the next chunk of the river, above the chunk that was generated before.
+     *
+     * @return The template of the new chunk.
+     */
+    public LevelTemplate nextChunk() {
+        for (char[] row : rows) {
+            Arrays.fill(row, '.');
+        }
+        for (int row = ROWS_PER_CHUNK - 1; row > BRIDGE_ROW; row--) {
+            int rowsToBridge = row - BRIDGE_ROW;
+            if (rowsToBridge <= ROWS_TO_CLOSE_THE_BANKS) {
+                closeBanks(rowsToBridge);
+            } else {
+                windBanks();
+            }
+            boolean visibleAtStart = numberOfChunks == 0 && row >= WORLD_OFFSET_LINES;
+            generateRow(rows[row], rowsToBridge > ROWS_TO_CLOSE_THE_BANKS && !visibleAtStart);
+        }
+        generateBridge(rows[BRIDGE_ROW]);
+        for (int row = BRIDGE_ROW - 1; row >= 0; row--) {
+            rows[row][LEFT_BANK_AT_BRIDGE] = 'C';
+            rows[row][RIGHT_BANK_AT_BRIDGE] = 'E';
+        }
+        if (numberOfChunks == 0) {
+            Arrays.fill(rows[ROWS_PER_CHUNK - 3], '.');
+            rows[ROWS_PER_CHUNK - 3][0] = 'L';
+            rows[ROWS_PER_CHUNK - 3][RIGHT_BANK_AT_BRIDGE] = 'R';
+        }
+        Level chunk = new Level();
+        chunk.name = "Endless River";
+        chunk.number = numberOfChunks + 1;
+        chunk.world = worldOf(rows);
+        chunk.worldOffsetColumns = 0;
+        chunk.worldOffsetLines = WORLD_OFFSET_LINES + numberOfChunks * ROWS_PER_CHUNK;
+        numberOfChunks++;
+        return LevelTemplate.parse(chunk);
+    }
+
+    /**
+     * Returns the number of chunks generated so far.
+     *
+     * @return Number of chunks.
+     */
+    public int getNumberOfChunks() {
+        return numberOfChunks;
+    }
+
+    private void windBanks() {
+        leftBank += random.nextInt(3) - 1;
+        rightBank += random.nextInt(3) - 1;
+        leftBank = Math.max(MOST_LEFT_BANK, Math.min(leftBank, MOST_RIGHT_BANK - NARROWEST_RIVER));
+        rightBank = Math.max(leftBank + NARROWEST_RIVER, Math.min(rightBank, MOST_RIGHT_BANK));
+    }
+
+    private void closeBanks(int rowsToBridge) {
+        leftBank += (LEFT_BANK_AT_BRIDGE - leftBank) / rowsToBridge;
+        rightBank += (RIGHT_BANK_AT_BRIDGE - rightBank) / rowsToBridge;
+    }
+
+    private void generateRow(char[] row, boolean withIslandsAndEnemies) {
+        row[leftBank] = 'C';
+        row[rightBank] = 'E';
+        rowsSinceLastIsland++;
+        int firstColumnOfRiver = leftBank + BANK_WIDTH_IN_COLUMNS + 2;
+        int lastColumnOfRiver = rightBank - 4;
+        if (withIslandsAndEnemies && rightBank - leftBank >= RIVER_WIDE_ENOUGH_FOR_ISLAND
+            && rowsSinceLastIsland >= ROWS_BETWEEN_ISLANDS && random.nextInt(6) == 0) {
+            row[(firstColumnOfRiver + lastColumnOfRiver) / 2] = 'U';
+            rowsSinceLastIsland = 0;
+        } else if (withIslandsAndEnemies && rowsSinceLastIsland > 2 && random.nextInt(8) == 0) {
+            char enemyOrFuel = ENEMIES_AND_FUEL[random.nextInt(ENEMIES_AND_FUEL.length)];
+            row[firstColumnOfRiver + random.nextInt(lastColumnOfRiver - firstColumnOfRiver)] = enemyOrFuel;
+        }
+        if (withIslandsAndEnemies && random.nextInt(30) == 0) {
+            boolean fromTheLeft = random.nextBoolean();
+            int column = fromTheLeft ? 0 : COLUMNS - 8;
+            if (fromTheLeft ? leftBank > column + 1 : rightBank < column - 1) {
+                row[column] = 'G';
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            placeScenery(row);
+        }
+    }
+
+    private void placeScenery(char[] row) {
+        boolean onTheLeft = random.nextBoolean();
+        int firstColumn = onTheLeft ? 1 : rightBank + 3;
+        int endColumn = onTheLeft ? leftBank + BANK_WIDTH_IN_COLUMNS - 4 : COLUMNS - 10;
+        if (endColumn > firstColumn) {
+            int column = firstColumn + random.nextInt(endColumn - firstColumn);
+            if (row[column] == '.') {
+                row[column] = SCENERY[random.nextInt(SCENERY.length)];
+            }
+        }
+    }
+
+    private void generateBridge(char[] row) {
+        row[0] = 'L';
+        row[53] = 'X';
+        row[RIGHT_BANK_AT_BRIDGE] = 'R';
+        if (random.nextBoolean()) {
+            row[RIGHT_BANK_AT_BRIDGE + 2] = 'W';
+            row[COLUMNS - 11] = 'T';
+        }
+    }
+
+    private static String worldOf(char[][] rows) {
+        StringBuilder world = new StringBuilder(rows.length * (COLUMNS + 1));
+        for (char[] row : rows) {
+            world.append(row).append('\n');
+        }
+        return world.toString();
+    }
+}
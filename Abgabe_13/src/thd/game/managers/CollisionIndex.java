@@ -0,0 +1,138 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.BlockingGameObject;
+import thd.gameobjects.base.CollidingGameObject;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Broad phase for the collision detection. All colliding game objects are sorted by the upper edge of their hitboxes,
+ * because the game world scrolls vertically and most game objects are spread along the y-axis. Overlapping pairs and
+ * area queries only have to look at the game objects in a small window of the sorted order.
+ */
+class CollisionIndex {
+    private static final int TOLERANCE_IN_PIXEL = 10;
+    private static final int INITIAL_CAPACITY = 128;
+
+    private final List<CollidingGameObject> queryResult;
+    private CollidingGameObject[] indexedGameObjects;
+    private int[] minimumY;
+    private int[] maximumY;
+    private long[] sortedKeys;
+    private int size;
+    private int maximumHeight;
+
+    CollisionIndex() {
+        queryResult = new ArrayList<>();
+        indexedGameObjects = new CollidingGameObject[INITIAL_CAPACITY];
+        minimumY = new int[INITIAL_CAPACITY];
+        maximumY = new int[INITIAL_CAPACITY];
+        sortedKeys = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Rebuilds the index from the current hitboxes of the given game objects. The position of a game object in the
+     * list is used as its index. The list must not contain empty entries.
+     *
+     * @param collidingGameObjects All game objects that take part in the collision detection.
+     */
+    void rebuild(EntityList<CollidingGameObject> collidingGameObjects) {
+        size = collidingGameObjects.size();
+        ensureCapacity(size);
+        maximumHeight = 0;
+        for (int index = 0; index < size; index++) {
+            CollidingGameObject collidingGameObject = collidingGameObjects.get(index);
+            indexedGameObjects[index] = collidingGameObject;
+            minimumY[index] = collidingGameObject.sweptHitBoxMinimumY();
+            maximumY[index] = collidingGameObject.sweptHitBoxMaximumY();
+            maximumHeight = Math.max(maximumHeight, maximumY[index] - minimumY[index]);
+            sortedKeys[index] = ((long) minimumY[index] << Integer.SIZE) | index;
+        }
+        Arrays.fill(indexedGameObjects, size, indexedGameObjects.length, null);
+        Arrays.sort(sortedKeys, 0, size);
+    }
+
+    /**
+     * Removes all game objects from the index.
+     */
+    void clear() {
+        Arrays.fill(indexedGameObjects, 0, size, null);
+        size = 0;
+        maximumHeight = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > indexedGameObjects.length) {
+            int newCapacity = Math.max(capacity, indexedGameObjects.length * 2);
+            indexedGameObjects = Arrays.copyOf(indexedGameObjects, newCapacity);
+            minimumY = Arrays.copyOf(minimumY, newCapacity);
+            maximumY = Arrays.copyOf(maximumY, newCapacity);
+            sortedKeys = Arrays.copyOf(sortedKeys, newCapacity);
+        }
+    }
+
+    /**
+     * Number of game objects in the index.
+     *
+     * @return Number of indexed game objects.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the game object at the given position of the sorted order.
+     *
+     * @param sortedPosition Position in the order sorted by the upper edge of the hitboxes.
+     * @return Index of the game object, as given to {@link #rebuild(EntityList)}.
+     */
+    int indexAt(int sortedPosition) {
+        return (int) sortedKeys[sortedPosition];
+    }
+
+    /**
+     * Determines if the game object at the given sorted position can overlap with the game objects at this or any
+     * further sorted position. Further game objects start too far below, if this returns false.
+     *
+     * @param sortedPosition      Position of the game object in the sorted order.
+     * @param otherSortedPosition Position of another game object further down in the sorted order.
+     * @return <code>true</code> if the vertical ranges of both hitboxes may overlap.
+     */
+    boolean mayOverlap(int sortedPosition, int otherSortedPosition) {
+        return minimumY[indexAt(otherSortedPosition)] < maximumY[indexAt(sortedPosition)] + TOLERANCE_IN_PIXEL;
+    }
+
+    /**
+     * Returns all game objects that block the path of the jet fighter and whose current hitbox intersects the given
+     * area. Game objects that were destroyed are not part of the index anymore. The returned list is reused by the
+     * next query.
+     *
+     * @param area The area to check.
+     * @return All blocking game objects in the area.
+     */
+    List<CollidingGameObject> queryBlocking(Rectangle area) {
+        queryResult.clear();
+        int upperEdge = area.y - maximumHeight - TOLERANCE_IN_PIXEL;
+        int lowerEdge = area.y + area.height + TOLERANCE_IN_PIXEL;
+        for (int sortedPosition = firstSortedPositionBelow(upperEdge); sortedPosition < size; sortedPosition++) {
+            int index = indexAt(sortedPosition);
+            if (minimumY[index] >= lowerEdge) {
+                break;
+            }
+            CollidingGameObject candidate = indexedGameObjects[index];
+            if (candidate instanceof BlockingGameObject && candidate.collidesWith(area)) {
+                queryResult.add(candidate);
+            }
+        }
+        return queryResult;
+    }
+
+    private int firstSortedPositionBelow(int y) {
+        long key = (long) y << Integer.SIZE;
+        int position = Arrays.binarySearch(sortedKeys, 0, size, key);
+        return position >= 0 ? position : -position - 1;
+    }
+}
@@ -3,50 +3,125 @@ package thd.game.managers;
 import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.GameObject;
 
-import java.util.LinkedList;
+import java.awt.*;
+import java.util.Arrays;
 import java.util.List;
 
 class CollisionManager {
+    private static final int INITIAL_PAIR_BUFFER_CAPACITY = 64;
 
-    private final List<CollidingGameObject> collidingGameObjects;
+    private final EntityList<CollidingGameObject> collidingGameObjects;
+    private final CollisionIndex collisionIndex;
+    private long[] collisionPairBuffer;
+    private int numberOfCollisionPairs;
 
-    protected CollisionManager() {
-        collidingGameObjects = new LinkedList<>();
+    protected CollisionManager(EntityRegistry entityRegistry) {
+        collidingGameObjects = new EntityList<>(entityRegistry);
+        collisionIndex = new CollisionIndex();
+        collisionPairBuffer = new long[INITIAL_PAIR_BUFFER_CAPACITY];
     }
 
     /**
-     * Manages collisions between any game objects in the list. If a collision is detected, the method
-     * {@link CollidingGameObject#reactToCollisionWith(CollidingGameObject)} is called for both game objects.
-     * If <code>showHitBoxes</code> is true, all hitboxes of game objects in the list are shown as red rectangles.
+     * Manages collisions between any game objects in the list. In a first step all overlapping pairs are collected
+     * in a reusable pair buffer, no game object reacts during this detection. Only game objects that are close to
+     * each other in the {@link CollisionIndex} are tested. Afterwards the pairs are sorted by the indices of both game
+     * objects and {@link CollidingGameObject#reactToCollisionWith(CollidingGameObject)} is called for both game
+     * objects of every pair. Fast moving game objects are tested along their movement since the last
+     * call, see {@link CollidingGameObject#sweptCollidesWith(CollidingGameObject)}. If <code>showHitBoxes</code> is
+     * true, all hitboxes of game objects in the list are shown as red rectangles.
      *
      * @param showHitBoxes If true, hitboxes of colliding game objects in the list are shown.
      */
     protected void manageCollisions(boolean showHitBoxes) {
-        int sublistIndex = 0;
-        for (CollidingGameObject gameObjectA : collidingGameObjects) {
-            sublistIndex++;
-            List<CollidingGameObject> restOfList = collidingGameObjects.subList(sublistIndex, collidingGameObjects.size());
-            for (CollidingGameObject gameObjectB : restOfList) {
-                if (gameObjectA.collidesWith(gameObjectB)) {
-                    gameObjectA.reactToCollisionWith(gameObjectB);
-                    gameObjectB.reactToCollisionWith(gameObjectA);
-                }
-            }
+        detectCollisionPairs();
+        dispatchCollisionPairs();
+        for (int index = 0; index < collidingGameObjects.size(); index++) {
+            CollidingGameObject collidingGameObject = collidingGameObjects.get(index);
+            collidingGameObject.storeHitBoxForSweptCollision();
             if (showHitBoxes) {
-                gameObjectA.showHitBox();
+                collidingGameObject.showHitBox();
+            }
+        }
+    }
+
+    private void detectCollisionPairs() {
+        numberOfCollisionPairs = 0;
+        collisionIndex.rebuild(collidingGameObjects);
+        int size = collisionIndex.size();
+        for (int sortedPosition = 0; sortedPosition < size; sortedPosition++) {
+            int indexA = collisionIndex.indexAt(sortedPosition);
+            CollidingGameObject gameObjectA = collidingGameObjects.get(indexA);
+            for (int otherSortedPosition = sortedPosition + 1;
+                 otherSortedPosition < size && collisionIndex.mayOverlap(sortedPosition, otherSortedPosition);
+                 otherSortedPosition++) {
+                int indexB = collisionIndex.indexAt(otherSortedPosition);
+                if (gameObjectA.sweptCollidesWith(collidingGameObjects.get(indexB))) {
+                    addCollisionPair(Math.min(indexA, indexB), Math.max(indexA, indexB));
+                }
             }
         }
     }
 
+    private void addCollisionPair(int indexA, int indexB) {
+        if (numberOfCollisionPairs == collisionPairBuffer.length) {
+            collisionPairBuffer = Arrays.copyOf(collisionPairBuffer, collisionPairBuffer.length * 2);
+        }
+        collisionPairBuffer[numberOfCollisionPairs++] = ((long) indexA << Integer.SIZE) | indexB;
+    }
+
+    private void dispatchCollisionPairs() {
+        Arrays.sort(collisionPairBuffer, 0, numberOfCollisionPairs);
+        for (int pairIndex = 0; pairIndex < numberOfCollisionPairs; pairIndex++) {
+            long pair = collisionPairBuffer[pairIndex];
+            CollidingGameObject gameObjectA = collidingGameObjects.get((int) (pair >>> Integer.SIZE));
+            CollidingGameObject gameObjectB = collidingGameObjects.get((int) pair);
+            gameObjectA.reactToCollisionWith(gameObjectB);
+            gameObjectB.reactToCollisionWith(gameObjectA);
+        }
+    }
+
+    /**
+     * Returns the number of colliding pairs that were found during the last call of
+     * {@link #manageCollisions(boolean)}.
+     *
+     * @return Number of collision pairs in the last frame.
+     */
+    protected int numberOfCollisionPairsInLastFrame() {
+        return numberOfCollisionPairs;
+    }
+
+    /**
+     * Returns all game objects that block the path of the jet fighter and intersect the given area. The query is
+     * answered by the {@link CollisionIndex} of the last collision detection, so only nearby game objects are tested.
+     *
+     * @param area The area to check.
+     * @return All blocking game objects in the area. The list is reused by the next query.
+     */
+    protected List<CollidingGameObject> queryBlocking(Rectangle area) {
+        return collisionIndex.queryBlocking(area);
+    }
+
+    protected void clearCollisionIndex() {
+        collisionIndex.clear();
+    }
+
     protected void addToCollisionManagement(GameObject toAdd) {
         if (toAdd instanceof CollidingGameObject collidingGameObject) {
+            collidingGameObject.resetSweptCollision();
             collidingGameObjects.add(collidingGameObject);
         }
     }
 
     protected void removeFromCollisionManagement(GameObject toRemove) {
-        if (toRemove instanceof CollidingGameObject collidingGameObject) {
-            collidingGameObjects.remove(collidingGameObject);
+        if (toRemove instanceof CollidingGameObject) {
+            collidingGameObjects.remove(toRemove);
         }
     }
+
+    /**
+     * Drops the entries of removed game objects, so that the next collision detection only sees current game objects.
+     */
+    protected void compactCollisionManagement() {
+        collidingGameObjects.compact();
+    }
 }
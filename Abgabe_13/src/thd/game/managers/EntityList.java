@@ -0,0 +1,254 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.GameObject;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An ordered list of game objects, indexed by their entity ids. Looking up and removing a game object takes constant
+ * time: a removed game object leaves an empty entry, that is dropped by the next {@link #compact()}. While iterating
+ * with {@link #get(int)}, empty entries have to be skipped.
+ *
+ * @param <T> the type of the game objects in the list.
+ */
+class EntityList<T extends GameObject> {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int PENDING_ADDITION = -2;
+
+    private final EntityRegistry entityRegistry;
+    private GameObject[] entries;
+    private int[] indexOfSlot;
+    private int size;
+    private int numberOfEmptyEntries;
+    private GameObject[] additionsInOrder;
+
+    EntityList(EntityRegistry entityRegistry) {
+        this.entityRegistry = entityRegistry;
+        entries = new GameObject[INITIAL_CAPACITY];
+        indexOfSlot = new int[INITIAL_CAPACITY];
+        Arrays.fill(indexOfSlot, -1);
+        additionsInOrder = new GameObject[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Appends the game object, if it is not in the list yet.
+     *
+     * @param gameObject The game object to add.
+     * @return <code>true</code> if the game object was added.
+     */
+    boolean add(T gameObject) {
+        if (contains(gameObject)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        entries[size] = gameObject;
+        setIndex(entityRegistry.retain(gameObject), size);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the game object, if it is in the list.
+     *
+     * @param gameObject The game object to remove.
+     * @return <code>true</code> if the game object was removed.
+     */
+    boolean remove(GameObject gameObject) {
+        if (!contains(gameObject)) {
+            return false;
+        }
+        int slot = EntityRegistry.slotOf(gameObject.getEntityId());
+        entries[indexOfSlot[slot]] = null;
+        indexOfSlot[slot] = -1;
+        numberOfEmptyEntries++;
+        entityRegistry.release(gameObject);
+        return true;
+    }
+
+    /**
+     * Determines if the game object is in the list.
+     *
+     * @param gameObject The game object.
+     * @return <code>true</code> if the game object is in the list.
+     */
+    boolean contains(GameObject gameObject) {
+        int entityId = gameObject.getEntityId();
+        if (!entityRegistry.isAlive(entityId)) {
+            return false;
+        }
+        int slot = EntityRegistry.slotOf(entityId);
+        return slot < indexOfSlot.length && indexOfSlot[slot] >= 0 && entries[indexOfSlot[slot]] == gameObject;
+    }
+
+    /**
+     * Returns the entry at the given index.
+     *
+     * @param index Index of the entry, smaller than {@link #size()}.
+     * @return The game object or <code>null</code> if the entry is empty.
+     */
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        return (T) entries[index];
+    }
+
+    /**
+     * Returns the number of entries, including empty entries.
+     *
+     * @return Number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of game objects in the list.
+     *
+     * @return Number of game objects.
+     */
+    int numberOfGameObjects() {
+        return size - numberOfEmptyEntries;
+    }
+
+    /**
+     * Drops all empty entries, the order of the remaining game objects is kept.
+     */
+    void compact() {
+        if (numberOfEmptyEntries == 0) {
+            return;
+        }
+        int newSize = 0;
+        for (int index = 0; index < size; index++) {
+            GameObject gameObject = entries[index];
+            if (gameObject != null) {
+                entries[newSize] = gameObject;
+                setIndex(gameObject.getEntityId(), newSize);
+                newSize++;
+            }
+        }
+        Arrays.fill(entries, newSize, size, null);
+        size = newSize;
+        numberOfEmptyEntries = 0;
+    }
+
+    /**
+     * Drops all empty entries, if at least half of the entries are empty.
+     */
+    void compactIfSparse() {
+        if (numberOfEmptyEntries > INITIAL_CAPACITY / 2 && 2 * numberOfEmptyEntries > size) {
+            compact();
+        }
+    }
+
+    /**
+     * Sorts the new game objects into the list. Each new game object is placed in front of the first game object that
+     * is not smaller, as if the new game objects were inserted one after another. For this the new game objects are
+     * reversed and then sorted with a stable sort, so later game objects come in front of equal earlier ones. Empty
+     * entries are only dropped, if the list is sparse, and only the entries behind the first new game object get a new
+     * index.
+     *
+     * @param additions The new game objects in the order they were added.
+     * @param order     The order of the list.
+     * @param inserted  Is called for every game object that was not in the list before.
+     */
+    void insertSorted(List<? extends T> additions, Comparator<? super T> order, Consumer<? super T> inserted) {
+        compactIfSparse();
+        int numberOfAdditions = sortAdditions(additions, order);
+        if (numberOfAdditions == 0) {
+            return;
+        }
+        ensureCapacity(size + numberOfAdditions);
+        int oldIndex = size - 1;
+        int additionIndex = numberOfAdditions - 1;
+        int newIndex = size + numberOfAdditions - 1;
+        while (additionIndex >= 0) {
+            if (oldIndex >= 0 && (entries[oldIndex] == null
+                                  || compare(order, entries[oldIndex], additionsInOrder[additionIndex]) >= 0)) {
+                entries[newIndex] = entries[oldIndex--];
+            } else {
+                entries[newIndex] = additionsInOrder[additionIndex--];
+            }
+            newIndex--;
+        }
+        size += numberOfAdditions;
+        for (int index = 0; index < numberOfAdditions; index++) {
+            inserted.accept(asElement(additionsInOrder[index]));
+        }
+        Arrays.fill(additionsInOrder, 0, numberOfAdditions, null);
+        for (int index = newIndex + 1; index < size; index++) {
+            if (entries[index] != null) {
+                setIndex(entries[index].getEntityId(), index);
+            }
+        }
+    }
+
+    private int sortAdditions(List<? extends T> additions, Comparator<? super T> order) {
+        if (additionsInOrder.length < additions.size()) {
+            additionsInOrder = new GameObject[Math.max(additions.size(), additionsInOrder.length * 2)];
+        }
+        int numberOfAdditions = 0;
+        for (T gameObject : additions) {
+            if (!contains(gameObject) && !isPendingAddition(gameObject)) {
+                setIndex(entityRegistry.retain(gameObject), PENDING_ADDITION);
+                additionsInOrder[numberOfAdditions++] = gameObject;
+            }
+        }
+        for (int first = 0, last = numberOfAdditions - 1; first < last; first++, last--) {
+            GameObject gameObject = additionsInOrder[first];
+            additionsInOrder[first] = additionsInOrder[last];
+            additionsInOrder[last] = gameObject;
+        }
+        Arrays.sort(additionsInOrder, 0, numberOfAdditions, (first, second) -> compare(order, first, second));
+        return numberOfAdditions;
+    }
+
+    private boolean isPendingAddition(GameObject gameObject) {
+        int entityId = gameObject.getEntityId();
+        int slot = EntityRegistry.slotOf(entityId);
+        return entityRegistry.isAlive(entityId) && slot < indexOfSlot.length && indexOfSlot[slot] == PENDING_ADDITION;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T asElement(GameObject gameObject) {
+        return (T) gameObject;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Comparator<? super T> order, GameObject first, GameObject second) {
+        return order.compare((T) first, (T) second);
+    }
+
+    /**
+     * Removes all game objects.
+     */
+    void clear() {
+        for (int index = 0; index < size; index++) {
+            GameObject gameObject = entries[index];
+            if (gameObject != null) {
+                indexOfSlot[EntityRegistry.slotOf(gameObject.getEntityId())] = -1;
+                entityRegistry.release(gameObject);
+                entries[index] = null;
+            }
+        }
+        size = 0;
+        numberOfEmptyEntries = 0;
+    }
+
+    private void setIndex(int entityId, int index) {
+        int slot = EntityRegistry.slotOf(entityId);
+        if (slot >= indexOfSlot.length) {
+            int oldLength = indexOfSlot.length;
+            indexOfSlot = Arrays.copyOf(indexOfSlot, Math.max(slot + 1, oldLength * 2));
+            Arrays.fill(indexOfSlot, oldLength, indexOfSlot.length, -1);
+        }
+        indexOfSlot[slot] = index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(capacity, entries.length * 2));
+        }
+    }
+}
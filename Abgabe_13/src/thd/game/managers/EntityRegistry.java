@@ -0,0 +1,138 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.GameObject;
+
+import java.util.Arrays;
+
+/**
+ * Issues the entity ids of all game objects that are managed by one of the managers. An id consists of a slot, which
+ * is used as index into arrays of the managers, and a generation, which is increased whenever the slot is freed. An id
+ * that was kept after its game object left the game is therefore recognized as stale, even if the slot is already
+ * used by another game object.
+ * <p>
+ * Every manager list that contains a game object holds a reference on its id. The id is freed, when the game object
+ * is removed from the last list.
+ */
+class EntityRegistry {
+    static final int NO_ENTITY = 0;
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int MAXIMUM_GENERATION = (1 << (Integer.SIZE - 1 - SLOT_BITS)) - 1;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private GameObject[] gameObjects;
+    private int[] generations;
+    private int[] references;
+    private int[] freeSlots;
+    private int numberOfFreeSlots;
+    private int numberOfSlots;
+
+    EntityRegistry() {
+        gameObjects = new GameObject[INITIAL_CAPACITY];
+        generations = new int[INITIAL_CAPACITY];
+        references = new int[INITIAL_CAPACITY];
+        freeSlots = new int[INITIAL_CAPACITY];
+        Arrays.fill(generations, 1);
+    }
+
+    /**
+     * Returns the slot of an id, which can be used as index into arrays.
+     *
+     * @param entityId The id of a game object.
+     * @return The slot of the id.
+     */
+    static int slotOf(int entityId) {
+        return entityId & SLOT_MASK;
+    }
+
+    /**
+     * Adds a reference to the id of the game object. If the game object has no valid id yet, a new id is issued.
+     *
+     * @param gameObject The game object that is added to a manager list.
+     * @return The id of the game object.
+     */
+    int retain(GameObject gameObject) {
+        int entityId = gameObject.getEntityId();
+        if (!belongsTo(entityId, gameObject)) {
+            entityId = issue(gameObject);
+        }
+        references[slotOf(entityId)]++;
+        return entityId;
+    }
+
+    /**
+     * Removes a reference from the id of the game object. The id becomes stale, when there are no references left.
+     *
+     * @param gameObject The game object that is removed from a manager list.
+     */
+    void release(GameObject gameObject) {
+        int entityId = gameObject.getEntityId();
+        if (!belongsTo(entityId, gameObject)) {
+            return;
+        }
+        int slot = slotOf(entityId);
+        if (--references[slot] > 0) {
+            return;
+        }
+        gameObjects[slot] = null;
+        generations[slot] = generations[slot] == MAXIMUM_GENERATION ? 1 : generations[slot] + 1;
+        freeSlots[numberOfFreeSlots++] = slot;
+        gameObject.setEntityId(NO_ENTITY);
+    }
+
+    /**
+     * Determines if the id still belongs to a game object in one of the manager lists.
+     *
+     * @param entityId The id to check.
+     * @return <code>true</code> if the id is not stale.
+     */
+    boolean isAlive(int entityId) {
+        int slot = slotOf(entityId);
+        return entityId != NO_ENTITY && slot < numberOfSlots && generations[slot] == entityId >>> SLOT_BITS
+               && gameObjects[slot] != null;
+    }
+
+    /**
+     * Returns the game object of an id.
+     *
+     * @param entityId The id of the game object.
+     * @return The game object or <code>null</code> if the id is stale.
+     */
+    GameObject get(int entityId) {
+        return isAlive(entityId) ? gameObjects[slotOf(entityId)] : null;
+    }
+
+    private boolean belongsTo(int entityId, GameObject gameObject) {
+        return isAlive(entityId) && gameObjects[slotOf(entityId)] == gameObject;
+    }
+
+    private int issue(GameObject gameObject) {
+        int slot;
+        if (numberOfFreeSlots > 0) {
+            slot = freeSlots[--numberOfFreeSlots];
+        } else {
+            if (numberOfSlots > SLOT_MASK) {
+                throw new TooManyGameObjectsException("There are no entity ids left for new game objects!");
+            }
+            slot = numberOfSlots++;
+            ensureCapacity(numberOfSlots);
+        }
+        gameObjects[slot] = gameObject;
+        references[slot] = 0;
+        int entityId = generations[slot] << SLOT_BITS | slot;
+        gameObject.setEntityId(entityId);
+        return entityId;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > gameObjects.length) {
+            int oldCapacity = gameObjects.length;
+            int newCapacity = Math.max(capacity, oldCapacity * 2);
+            gameObjects = Arrays.copyOf(gameObjects, newCapacity);
+            generations = Arrays.copyOf(generations, newCapacity);
+            Arrays.fill(generations, oldCapacity, newCapacity, 1);
+            references = Arrays.copyOf(references, newCapacity);
+            freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+        }
+    }
+}
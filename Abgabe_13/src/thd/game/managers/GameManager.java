@@ -18,8 +18,6 @@ class GameManager extends LevelManager {
     GameManager(GameView gameView) {
         super(gameView);
         initializeLevel();
-        jetFighter.addPathDecisionObjects(sceneryLeft);
-        jetFighter.addPathDecisionObjects(sceneryRight);
         startNewGame();
     }
 
@@ -28,15 +26,16 @@ class GameManager extends LevelManager {
     }
 
     private boolean endOfGame() {
-        return lives == 0 || (!hasNextLevel() && endOfLevel());
+        return lives == 0 || (!isEndlessMode() && !hasNextLevel() && endOfLevel());
     }
 
     private void gameManagement() {
         if (endOfGame()) {
             if (!messageGameOverAlreadyDisplayed) {
                 messageGameOverAlreadyDisplayed = true;
+                cancelLevelPrefetch();
 
-                if (!hasNextLevel()) {
+                if (!isEndlessMode() && !hasNextLevel()) {
                     gameView.stopAllSounds();
                     destroyAllGameObjects();
                     gameView.plotCanvas();
@@ -64,13 +63,12 @@ class GameManager extends LevelManager {
                 destroyAllGameObjects();
                 startNewGame();
             }
-        } else if (endOfLevel()) {
+        } else if (endOfLevel() && !isEndlessMode()) {
             if (!messageGreatJobAlreadyDisplayed) {
                 messageGreatJobAlreadyDisplayed = true;
                 overlay.showMessage("Great Job!", 2);
             }
             switchToNextLevel();
-            initializeLevel();
         }
     }
 
@@ -101,6 +99,7 @@ class GameManager extends LevelManager {
             gameManagement();
             gameView.plotCanvas();
         }
+        cancelLevelPrefetch();
     }
 
     @Override
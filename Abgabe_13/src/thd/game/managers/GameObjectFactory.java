@@ -0,0 +1,228 @@
+package thd.game.managers;
+
+import thd.game.utilities.GameView;
+import thd.gameobjects.base.ActivatableGameObject;
+import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.TerrainGameObject;
+import thd.gameobjects.movable.*;
+
+import java.util.function.BiFunction;
+
+/**
+ * Creates the game object for one character of a level string. The factories of all characters are kept in a table,
+ * that is indexed by the character, so reading a level costs one array access per character. Each factory knows where
+ * its game object is placed relative to the cell of the character, how the game object is initialized and whether it
+ * waits for its activation when it lies above the window. The factories of the banks and decorations also tell, that
+ * their game objects are drawn into the terrain strips of the level.
+ *
+ * @param <T> the type of the created game objects.
+ */
+final class GameObjectFactory<T extends GameObject> {
+    private static final GameObjectFactory<?>[] FACTORIES = new GameObjectFactory<?>[128];
+
+    static {
+        register('B', activatable(Balloon::new));
+        register('S', activatable(Ship::new));
+        register('H', activatable(Helicopter::new));
+        register('G', activatable(GreyJet::new)
+                .initializedWith((greyJet, gameWorldManager, leftHalf) -> greyJet.initializeTheSpawnPoint(leftHalf)));
+        register('F', activatable(FuelItem::new));
+        register('T', activatable(Tank::new).placedAt(0, 10)
+                .initializedWith((tank, gameWorldManager, leftHalf) -> tank.initializeTheSpawnPoint(leftHalf)));
+        register('X', activatable(Bridge::new).placedAt(4, -12)
+                .initializedWith((bridge, gameWorldManager, leftHalf) ->
+                        bridge.setCounterForLevel(gameWorldManager.level.number + 1)));
+        register('L', activatable(BridgeLeft::new));
+        register('R', activatable(BridgeRight::new).placedAt(-6, 0));
+        register('Y', terrain(RadioTower::new));
+        register('Z', terrain(RocketLaunch::new)
+                .initializedWith((rocketLaunch, gameWorldManager, leftHalf) ->
+                        rocketLaunch.initializeTheSpawnPointForRocket(leftHalf)));
+        register('A', terrain(Satellite::new)
+                .initializedWith((satellite, gameWorldManager, leftHalf) ->
+                        satellite.initializeTheSpawnPointForSatellite(leftHalf)));
+        register('C', activatable(MovableSceneryLeft::new).placedAt(-700, 0).drawnInTerrainStrip());
+        register('E', activatable(MovableSceneryRight::new).drawnInTerrainStrip());
+        register('W', activatable(SpecialBorderForTank::new));
+        register('V', activatable(BigIsland::new));
+        register('U', activatable(SmallIsland::new));
+        register('D', activatable(InitializeSpawnPoint::new)
+                .initializedWith((spawnPoint, gameWorldManager, leftHalf) ->
+                        gameWorldManager.jetFighter.setInitializeSpawnPoint(spawnPoint)));
+        register('t', terrain(Tree::new));
+    }
+
+    /**
+     * Initializes a new game object, after it was placed.
+     *
+     * @param <T> the type of the game object.
+     */
+    @FunctionalInterface
+    interface Initializer<T> {
+        /**
+         * Initializes the game object.
+         *
+         * @param gameObject       The new game object.
+         * @param gameWorldManager The manager that reads the level.
+         * @param leftHalf         <code>true</code> if the character is in the left half of its row.
+         */
+        void initialize(T gameObject, GameWorldManager gameWorldManager, boolean leftHalf);
+    }
+
+    private final BiFunction<GameView, GamePlayManager, T> constructor;
+    private final boolean waitsForActivation;
+    private final boolean spawned;
+    private boolean drawnInTerrainStrip;
+    private double offsetX;
+    private double offsetY;
+    private Initializer<? super T> initializer;
+
+    private GameObjectFactory(BiFunction<GameView, GamePlayManager, T> constructor, boolean waitsForActivation,
+                              boolean spawned) {
+        this.constructor = constructor;
+        this.waitsForActivation = waitsForActivation;
+        this.spawned = spawned;
+        drawnInTerrainStrip = !spawned;
+        initializer = (gameObject, gameWorldManager, leftHalf) -> {
+        };
+    }
+
+    /**
+     * Creates a factory for game objects, that wait above the window until they are activated by the jet fighter.
+     *
+     * @param constructor Creates the game object.
+     * @param <T>         the type of the game objects.
+     * @return The new factory.
+     */
+    static <T extends GameObject & ActivatableGameObject<JetFighter>> GameObjectFactory<T> activatable(
+            BiFunction<GameView, GamePlayManager, T> constructor) {
+        return new GameObjectFactory<>(constructor, true, true);
+    }
+
+    /**
+     * Creates a factory for game objects, that nothing interacts with. They are not spawned at all, but only drawn into
+     * the terrain strips of the level.
+     *
+     * @param constructor Creates the game object.
+     * @param <T>         the type of the game objects.
+     * @return The new factory.
+     */
+    static <T extends GameObject & TerrainGameObject> GameObjectFactory<T> terrain(
+            BiFunction<GameView, GamePlayManager, T> constructor) {
+        return new GameObjectFactory<>(constructor, false, false);
+    }
+
+    /**
+     * Registers the factory for a character of the level strings. A factory that was registered before for the same
+     * character is replaced.
+     *
+     * @param character The character in the level strings.
+     * @param factory   The factory for this character.
+     */
+    static void register(char character, GameObjectFactory<?> factory) {
+        if (character >= FACTORIES.length) {
+            throw new IllegalArgumentException("Only ASCII characters can be used in level strings: " + character);
+        }
+        FACTORIES[character] = factory;
+    }
+
+    /**
+     * Returns the factory for a character of a level string.
+     *
+     * @param character The character in the level string.
+     * @return The factory or <code>null</code> if the character does not stand for a game object.
+     */
+    static GameObjectFactory<?> forCharacter(char character) {
+        return character < FACTORIES.length ? FACTORIES[character] : null;
+    }
+
+    /**
+     * Moves the game objects of this factory relative to the cell of their character.
+     *
+     * @param offsetX Offset in x direction in pixels.
+     * @param offsetY Offset in y direction in pixels.
+     * @return This factory.
+     */
+    GameObjectFactory<T> placedAt(double offsetX, double offsetY) {
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        return this;
+    }
+
+    /**
+     * Sets how the game objects of this factory are initialized after they were placed.
+     *
+     * @param initializer Initializes a new game object.
+     * @return This factory.
+     */
+    GameObjectFactory<T> initializedWith(Initializer<? super T> initializer) {
+        this.initializer = initializer;
+        return this;
+    }
+
+    /**
+     * Draws the game objects of this factory into the terrain strips of the level. They are still spawned, e.g. to
+     * collide with the jet fighter, but they are not drawn in every frame.
+     *
+     * @return This factory.
+     */
+    GameObjectFactory<T> drawnInTerrainStrip() {
+        drawnInTerrainStrip = true;
+        return this;
+    }
+
+    /**
+     * Determines if the game objects of this factory wait for their activation, when their row lies above the window.
+     *
+     * @return <code>true</code> if the game objects are activated by the jet fighter.
+     */
+    boolean waitsForActivation() {
+        return waitsForActivation;
+    }
+
+    /**
+     * Determines if the game objects of this factory are spawned, when their row is read.
+     *
+     * @return <code>false</code> if the game objects are only drawn into the terrain strips.
+     */
+    boolean isSpawned() {
+        return spawned;
+    }
+
+    /**
+     * Determines if the game objects of this factory are drawn into the terrain strips of the level.
+     *
+     * @return <code>true</code> for the banks and decorations.
+     */
+    boolean isDrawnInTerrainStrip() {
+        return drawnInTerrainStrip;
+    }
+
+    /**
+     * Creates and places a new game object, without initializing it. This has no effect on the game, so it can be done
+     * by another thread than the game thread.
+     *
+     * @param gameWorldManager The manager that reads the level.
+     * @param x                x-coordinate of the cell of the character.
+     * @param y                y-coordinate of the cell of the character.
+     * @return The new game object.
+     */
+    T construct(GameWorldManager gameWorldManager, double x, double y) {
+        T gameObject = constructor.apply(gameWorldManager.gameView, gameWorldManager);
+        gameObject.getPosition().updateCoordinates(x + offsetX, y + offsetY);
+        return gameObject;
+    }
+
+    /**
+     * Initializes a game object, that was created by {@link #construct(GameWorldManager, double, double)} of this
+     * factory. Must be called by the game thread.
+     *
+     * @param gameObject       The new game object.
+     * @param gameWorldManager The manager that reads the level.
+     * @param leftHalf         <code>true</code> if the character is in the left half of its row.
+     */
+    @SuppressWarnings("unchecked")
+    void initialize(GameObject gameObject, GameWorldManager gameWorldManager, boolean leftHalf) {
+        initializer.initialize((T) gameObject, gameWorldManager, leftHalf);
+    }
+}
@@ -1,67 +1,328 @@
 package thd.game.managers;
 
-import thd.game.utilities.SortedGameObjectsList;
+import thd.gameobjects.base.BlockingGameObject;
+import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.GameObjectPool;
+import thd.gameobjects.base.HudGameObject;
+import thd.gameobjects.base.PoolableGameObject;
+import thd.gameobjects.base.ShiftableGameObject;
+import thd.gameobjects.base.TerrainGameObject;
 
-import java.util.LinkedList;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 class GameObjectManager extends CollisionManager {
-    private final List<GameObject> gameObjects;
+    private static final Comparator<GameObject> DRAWING_ORDER = Comparator.comparingInt(GameObject::getDistanceToBackground);
+    private final EntityList<GameObject> gameObjects;
     private final List<GameObject> gameObjectsToBeAdded;
+    private int numberOfDeferredGameObjects;
     private final List<GameObject> gameObjectsToBeRemoved;
-    private static final int MAXIMUM_NUMBER_OF_GAME_OBJECTS = 500;
+    private final SpawnCommandQueue spawnCommandQueue;
+    private final SpawnCommandQueue.CommandHandler commandHandler;
+    private final Consumer<GameObject> admittedToGame;
+    private final Consumer<GameObject> destroyedByOtherThread;
+    private final List<CollidingGameObject> blockingGameObjectsToBeRegistered;
+    private final RiverOccupancyMap riverOccupancyMap;
+    private final Map<Class<? extends GameObject>, GameObjectPool<?>> gameObjectPools;
+    private final SpawnBudget spawnBudget;
+    private final Map<Class<? extends GameObject>, int[]> liveCountPerType;
+    private final Consumer<GameObject> admitGameObject;
 
-    GameObjectManager() {
-        gameObjects = new SortedGameObjectsList();
-        gameObjectsToBeAdded = new LinkedList<>();
-        gameObjectsToBeRemoved = new LinkedList<>();
+    GameObjectManager(EntityRegistry entityRegistry, Consumer<GameObject> admittedToGame,
+                      Consumer<GameObject> destroyedByOtherThread) {
+        super(entityRegistry);
+        gameObjects = new EntityList<>(entityRegistry);
+        gameObjectsToBeAdded = new ArrayList<>();
+        gameObjectsToBeRemoved = new ArrayList<>();
+        spawnCommandQueue = new SpawnCommandQueue();
+        commandHandler = this::applyCommand;
+        this.admittedToGame = admittedToGame;
+        this.destroyedByOtherThread = destroyedByOtherThread;
+        blockingGameObjectsToBeRegistered = new ArrayList<>();
+        riverOccupancyMap = new RiverOccupancyMap();
+        gameObjectPools = new HashMap<>();
+        spawnBudget = new SpawnBudget();
+        liveCountPerType = new HashMap<>();
+        admitGameObject = gameObject -> {
+            changeLiveCount(gameObject, 1);
+            admittedToGame.accept(gameObject);
+        };
     }
 
+    <T extends GameObject & PoolableGameObject> T obtain(Class<T> type, Supplier<T> factory) {
+        GameObjectPool<?> gameObjectPool = gameObjectPools.get(type);
+        if (gameObjectPool == null) {
+            gameObjectPool = new GameObjectPool<>(type, factory);
+            gameObjectPools.put(type, gameObjectPool);
+        }
+        return type.cast(gameObjectPool.obtain());
+    }
+
+    /**
+     * Spawns the game object in the first update of the lists that the {@link SpawnBudget} admits it in. Then it is
+     * also handed to the consumer for admitted game objects. Can be called by any thread.
+     *
+     * @param gameObject The game object to spawn.
+     */
     void add(GameObject gameObject) {
-        gameObjectsToBeAdded.add(gameObject);
+        offer(gameObject, false);
     }
 
+    /**
+     * Destroys the game object with the next update of the lists. Can be called by any thread.
+     *
+     * @param gameObject The game object to destroy.
+     */
     void remove(GameObject gameObject) {
-        gameObjectsToBeRemoved.add(gameObject);
+        offer(gameObject, true);
+    }
+
+    private void offer(GameObject gameObject, boolean removal) {
+        while (!spawnCommandQueue.offer(gameObject, removal)) {
+            drainSpawnCommands();
+        }
+    }
+
+    /**
+     * Determines if the current thread is the game thread. Other threads can only spawn and destroy game objects.
+     *
+     * @return <code>true</code> if called by the game thread.
+     */
+    boolean isGameThread() {
+        return spawnCommandQueue.isGameThread();
     }
 
     void removeAll() {
+        drainSpawnCommands();
         gameObjectsToBeAdded.clear();
-        gameObjectsToBeRemoved.addAll(gameObjects);
+        numberOfDeferredGameObjects = 0;
+        for (int index = 0; index < gameObjects.size(); index++) {
+            GameObject gameObject = gameObjects.get(index);
+            if (gameObject != null) {
+                gameObjectsToBeRemoved.add(gameObject);
+            }
+        }
+        blockingGameObjectsToBeRegistered.clear();
+        riverOccupancyMap.clear();
+        clearCollisionIndex();
     }
 
     void gameLoop() {
         updateLists();
-        for (GameObject gameObject : gameObjects) {
+        long startTime = System.nanoTime();
+        for (int index = 0; index < gameObjects.size(); index++) {
+            GameObject gameObject = gameObjects.get(index);
+            if (gameObject == null) {
+                continue;
+            }
             gameObject.updateStatus();
             gameObject.updatePosition();
-            gameObject.addToCanvas();
+            if (!(gameObject instanceof TerrainGameObject) && !(gameObject instanceof HudGameObject)) {
+                gameObject.addToCanvas();
+            }
         }
         manageCollisions(false);
+        spawnBudget.recordFrameTime(System.nanoTime() - startTime);
     }
 
-    private void updateLists() {
-        if (gameObjects.size() > MAXIMUM_NUMBER_OF_GAME_OBJECTS) {
-            throw new TooManyGameObjectsException("There are more objects than the maximum of " + MAXIMUM_NUMBER_OF_GAME_OBJECTS + " in the game!");
+    /**
+     * Returns the number of game objects in the game. Game objects that wait to be added are not counted.
+     *
+     * @return Number of game objects.
+     */
+    int numberOfGameObjects() {
+        return gameObjects.numberOfGameObjects();
+    }
+
+    /**
+     * Returns the budget, that limits how many new game objects are added per frame. It can be configured, e.g. for
+     * levels with a lot of game objects.
+     *
+     * @return The spawn budget.
+     */
+    SpawnBudget spawnBudget() {
+        return spawnBudget;
+    }
+
+    /**
+     * Returns how many game objects of the given type are in the game. Game objects that wait to be added are not
+     * counted.
+     *
+     * @param type The exact type of the game objects.
+     * @return Number of game objects of this type.
+     */
+    int liveCount(Class<? extends GameObject> type) {
+        int[] liveCount = liveCountPerType.get(type);
+        return liveCount == null ? 0 : liveCount[0];
+    }
+
+    /**
+     * Returns how many game objects of each type are in the game. Types that have left the game are kept with a count
+     * of 0, types that were never in the game are left out.
+     *
+     * @return The number of game objects per type.
+     */
+    Map<Class<? extends GameObject>, Integer> liveCountPerType() {
+        Map<Class<? extends GameObject>, Integer> liveCounts = new HashMap<>();
+        for (Map.Entry<Class<? extends GameObject>, int[]> entry : liveCountPerType.entrySet()) {
+            liveCounts.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return liveCounts;
+    }
+
+    private void changeLiveCount(GameObject gameObject, int change) {
+        liveCountPerType.computeIfAbsent(gameObject.getClass(), type -> new int[1])[0] += change;
+    }
+
+    /**
+     * Returns how often a new game object had to wait for a later frame, because of the {@link SpawnBudget}.
+     *
+     * @return Number of deferred spawns.
+     */
+    long numberOfDeferredSpawns() {
+        return spawnBudget.numberOfDeferredSpawns();
+    }
+
+    /**
+     * Enters the hitboxes of all blocking game objects, that were added since the last call, into the
+     * {@link RiverOccupancyMap}. This has to be called after the game objects were updated once, because some of them
+     * are positioned by other game objects. Afterwards the rows of the map, that have scrolled out of the window, are
+     * discarded.
+     *
+     * @param worldOffsetY How far the world has been scrolled down by now.
+     */
+    void registerBlockingGameObjects(double worldOffsetY) {
+        for (CollidingGameObject blockingGameObject : blockingGameObjectsToBeRegistered) {
+            if (blockingGameObject instanceof ShiftableGameObject) {
+                riverOccupancyMap.addScrollingBlockedArea(blockingGameObject, blockingGameObject.hitBox(), worldOffsetY);
+            } else {
+                riverOccupancyMap.addStaticBlockedArea(blockingGameObject.hitBox());
+            }
         }
+        blockingGameObjectsToBeRegistered.clear();
+        riverOccupancyMap.discardRowsBelowWindow(worldOffsetY);
+    }
+
+    /**
+     * Searches the nearest free x-coordinate for the given hitbox in the {@link RiverOccupancyMap}.
+     *
+     * @param preferredX   The x-coordinate of the game object that should be placed.
+     * @param hitBox       The hitbox of the game object at the preferred x-coordinate.
+     * @param worldOffsetY How far the world has been scrolled down by now.
+     * @return The nearest free x-coordinate or {@link Double#NaN} if there is none.
+     */
+    double nearestFreeX(double preferredX, Rectangle hitBox, double worldOffsetY) {
+        return riverOccupancyMap.nearestFreeX(preferredX, hitBox, worldOffsetY);
+    }
+
+    /**
+     * Returns the number of spawn and destroy commands that were applied with the last update of the lists.
+     *
+     * @return Number of commands in the last batch.
+     */
+    int numberOfSpawnCommandsInLastBatch() {
+        return spawnCommandQueue.numberOfCommandsInLastBatch();
+    }
+
+    /**
+     * Returns the largest number of spawn and destroy commands that were applied with one update of the lists.
+     *
+     * @return Number of commands in the largest batch.
+     */
+    int largestSpawnCommandBatch() {
+        return spawnCommandQueue.largestBatch();
+    }
+
+    /**
+     * Returns how often a spawn or destroy command had to wait, because the command queue was full.
+     *
+     * @return Number of stalled commands.
+     */
+    long numberOfStalledSpawnCommands() {
+        return spawnCommandQueue.numberOfStalledOffers();
+    }
+
+    private void updateLists() {
+        drainSpawnCommands();
         removeFromGameObjects();
         addToGameObjects();
+        compactCollisionManagement();
+    }
+
+    private void drainSpawnCommands() {
+        spawnCommandQueue.drain(commandHandler);
+    }
+
+    private void applyCommand(GameObject gameObject, boolean removal, boolean fromOtherThread) {
+        if (removal) {
+            if (fromOtherThread) {
+                destroyedByOtherThread.accept(gameObject);
+            }
+            gameObjectsToBeRemoved.add(gameObject);
+        } else {
+            gameObjectsToBeAdded.add(gameObject);
+        }
     }
 
     private void removeFromGameObjects() {
         for (GameObject gameObject : gameObjectsToBeRemoved) {
-            this.gameObjects.remove(gameObject);
+            if (!gameObjects.remove(gameObject)) {
+                cancelDeferredSpawn(gameObject);
+                continue;
+            }
+            changeLiveCount(gameObject, -1);
             removeFromCollisionManagement(gameObject);
+            if (gameObject instanceof PoolableGameObject) {
+                releaseToPool(gameObject);
+            }
+            if (gameObject instanceof BlockingGameObject && gameObject instanceof ShiftableGameObject) {
+                CollidingGameObject blockingGameObject = (CollidingGameObject) gameObject;
+                blockingGameObjectsToBeRegistered.remove(blockingGameObject);
+                riverOccupancyMap.removeScrollingBlockedArea(blockingGameObject);
+            }
         }
         gameObjectsToBeRemoved.clear();
     }
 
+    private void cancelDeferredSpawn(GameObject gameObject) {
+        for (int index = 0; index < numberOfDeferredGameObjects; index++) {
+            if (gameObjectsToBeAdded.get(index) == gameObject) {
+                gameObjectsToBeAdded.remove(index);
+                numberOfDeferredGameObjects--;
+                if (gameObject instanceof PoolableGameObject) {
+                    releaseToPool(gameObject);
+                }
+                return;
+            }
+        }
+    }
+
+    private void releaseToPool(GameObject gameObject) {
+        GameObjectPool<?> gameObjectPool = gameObjectPools.get(gameObject.getClass());
+        if (gameObjectPool != null) {
+            gameObjectPool.release(gameObject);
+        }
+    }
+
     private void addToGameObjects() {
-        for (GameObject toAdd : gameObjectsToBeAdded) {
-            gameObjects.add(toAdd);
+        int numberOfSpawns = spawnBudget.numberOfSpawnsAllowed(gameObjects.numberOfGameObjects(),
+                gameObjectsToBeAdded.size());
+        List<GameObject> spawnsOfThisFrame = gameObjectsToBeAdded.subList(0, numberOfSpawns);
+        gameObjects.insertSorted(spawnsOfThisFrame, DRAWING_ORDER, admitGameObject);
+        for (GameObject toAdd : spawnsOfThisFrame) {
             addToCollisionManagement(toAdd);
+            if (toAdd instanceof BlockingGameObject && toAdd instanceof CollidingGameObject blockingGameObject) {
+                blockingGameObjectsToBeRegistered.add(blockingGameObject);
+            }
         }
-        gameObjectsToBeAdded.clear();
+        spawnsOfThisFrame.clear();
+        numberOfDeferredGameObjects = gameObjectsToBeAdded.size();
     }
 }
@@ -3,11 +3,18 @@ package thd.game.managers;
 import thd.game.level.Difficulty;
 import thd.game.level.Level;
 import thd.game.utilities.GameView;
+import thd.gameobjects.base.BlockingGameObject;
+import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.PoolableGameObject;
 import thd.gameobjects.movable.*;
 import thd.gameobjects.unmovable.StatusBar;
 
+import java.awt.*;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.function.Supplier;
 
 /**
  * Manages the main gameplay logic and its interaction with the different
@@ -26,7 +33,8 @@ public class GamePlayManager extends WorldShiftManager {
 
     protected GamePlayManager(GameView gameView) {
         super(gameView);
-        gameObjectManager = new GameObjectManager();
+        gameObjectManager = new GameObjectManager(entityRegistry(), this::registerSpawnedGameObject,
+                this::unregisterDestroyedGameObject);
         random = new Random();
     }
 
@@ -132,16 +140,37 @@ public class GamePlayManager extends WorldShiftManager {
 
     /**
      * Adds a game object to the game. The object will be managed
-     * by the GameObjectManager.
+     * by the GameObjectManager. Other threads than the game thread,
+     * e.g. a thread that loads a level, can spawn game objects too.
+     * All game objects are added with the next frame of the game thread,
+     * that the spawn budget admits them in. Only from then on they are
+     * moved by the shifts of the world.
      *
      * @param gameObject the game objects to spawn.
      */
     @Override
     public void spawnGameObject(GameObject gameObject) {
-        super.spawnGameObject(gameObject);
         gameObjectManager.add(gameObject);
     }
 
+    private void registerSpawnedGameObject(GameObject gameObject) {
+        super.spawnGameObject(gameObject);
+    }
+
+    /**
+     * Takes a game object of the given type from its pool, instead of creating a new one. The game object is reset
+     * and can be spawned with {@link #spawnGameObject(GameObject)}. When it is removed from the game after
+     * {@link #destroyGameObject(GameObject)}, it goes back to its pool automatically.
+     *
+     * @param type    The type of the game object.
+     * @param factory Creates a new game object, if the pool is empty.
+     * @param <T>     The type of the game object.
+     * @return A game object that is ready to be spawned.
+     */
+    public <T extends GameObject & PoolableGameObject> T obtainGameObject(Class<T> type, Supplier<T> factory) {
+        return gameObjectManager.obtain(type, factory);
+    }
+
     /**
      * Checks whether the jet fighter is currently in the respawn phase.
      *
@@ -151,6 +180,56 @@ public class GamePlayManager extends WorldShiftManager {
         return jetFighter.isInvincible();
     }
 
+    /**
+     * Returns all game objects that block the path of the {@link JetFighter} and intersect the given area.
+     * Only game objects near the area are checked and destroyed game objects are dropped automatically.
+     *
+     * @param area The area to check, e.g. the hitbox of the jet fighter.
+     * @return All {@link BlockingGameObject}s in the area. The list is reused by the next query.
+     */
+    public List<CollidingGameObject> queryBlocking(Rectangle area) {
+        return gameObjectManager.queryBlocking(area);
+    }
+
+    /**
+     * Returns how many game objects of each type are in the game at the moment.
+     *
+     * @return The number of game objects per type.
+     */
+    public Map<Class<? extends GameObject>, Integer> liveCountPerType() {
+        return gameObjectManager.liveCountPerType();
+    }
+
+    /**
+     * Configures the soft budget, that limits how many new game objects are added per frame, e.g. for levels with a
+     * lot of game objects. Game objects beyond the budget are added in the following frames.
+     *
+     * @param maximumNumberOfGameObjects   The soft maximum of game objects, at least 1.
+     * @param frameTimeBudgetInNanoseconds How long the update of all game objects may take, before the spawns are
+     *                                     throttled.
+     * @param spawnsPerThrottledFrame      Number of new game objects per frame, while the spawns are throttled.
+     */
+    protected void configureSpawnBudget(int maximumNumberOfGameObjects, long frameTimeBudgetInNanoseconds,
+                                        int spawnsPerThrottledFrame) {
+        SpawnBudget spawnBudget = gameObjectManager.spawnBudget();
+        spawnBudget.setMaximumNumberOfGameObjects(maximumNumberOfGameObjects);
+        spawnBudget.setFrameTimeBudgetInNanoseconds(frameTimeBudgetInNanoseconds);
+        spawnBudget.setSpawnsPerThrottledFrame(spawnsPerThrottledFrame);
+    }
+
+    /**
+     * Searches the nearest position in the river where the given hitbox does not touch any
+     * {@link BlockingGameObject}. The positions are looked up in a map of the blocked areas of the level, that is
+     * filled once when the blocking game objects are spawned, so no collision checks are necessary.
+     *
+     * @param preferredX The x-coordinate of the game object that should be placed.
+     * @param hitBox     The hitbox of the game object at the preferred x-coordinate.
+     * @return The nearest free x-coordinate or {@link Double#NaN} if the whole river is blocked.
+     */
+    public double nearestSafeX(double preferredX, Rectangle hitBox) {
+        return gameObjectManager.nearestFreeX(preferredX, hitBox, getWorldOffsetY());
+    }
+
     /**
      * Removes a game object from the game. The object will be managed
      * by the GameObjectManager.
@@ -159,11 +238,20 @@ public class GamePlayManager extends WorldShiftManager {
      */
     @Override
     public void destroyGameObject(GameObject gameObject) {
+        if (gameObjectManager.isGameThread()) {
+            unregisterDestroyedGameObject(gameObject);
+        }
+        gameObjectManager.remove(gameObject);
+    }
+
+    private void unregisterDestroyedGameObject(GameObject gameObject) {
         super.destroyGameObject(gameObject);
         if (gameObject == activeTank) {
             activeTank = null;
         }
-        gameObjectManager.remove(gameObject);
+        if (!(gameObject instanceof PoolableGameObject)) {
+            gameView.resetTimers(gameObject);
+        }
     }
 
     @Override
@@ -178,7 +266,28 @@ public class GamePlayManager extends WorldShiftManager {
     @Override
     protected void gameLoop() {
         super.gameLoop();
+        if (Level.difficulty == Difficulty.EASY) {
+            scrollWorld(1.8);
+        } else {
+            scrollWorld(2.2);
+        }
         gameObjectManager.gameLoop();
+        gameObjectManager.registerBlockingGameObjects(getWorldOffsetY());
         gamePlayManagement();
+        updateGameStatistic();
+    }
+
+    private void updateGameStatistic() {
+        gameView.updateGameStatistic("Kollisionen:", gameObjectManager.numberOfCollisionPairsInLastFrame());
+        gameView.updateGameStatistic("Befehle/Bild:", gameObjectManager.numberOfSpawnCommandsInLastBatch());
+        gameView.updateGameStatistic("Max. Befehle:", gameObjectManager.largestSpawnCommandBatch());
+        gameView.updateGameStatistic("Gestaut:",
+                (int) Math.min(Integer.MAX_VALUE, gameObjectManager.numberOfStalledSpawnCommands()));
+        gameView.updateGameStatistic("Objekte:", gameObjectManager.numberOfGameObjects());
+        gameView.updateGameStatistic("Verschoben:",
+                (int) Math.min(Integer.MAX_VALUE, gameObjectManager.numberOfDeferredSpawns()));
+        for (Map.Entry<Class<? extends GameObject>, Integer> entry : liveCountPerType().entrySet()) {
+            gameView.updateGameStatistic(entry.getKey().getSimpleName() + ":", entry.getValue());
+        }
     }
 }
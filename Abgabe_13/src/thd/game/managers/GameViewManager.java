@@ -27,6 +27,7 @@ public class GameViewManager {
         gameView.updateStatusText("Simon Nuspahic - Java Programmierung SS 2025");
         gameView.updateWindowIcon("icon.png");
         gameView.updateBackgroundColor(new Color(0, 100, 255));
+        gameView.setRotationStep(5);
         startGameLoop();
     }
 
@@ -1,23 +1,46 @@
 package thd.game.managers;
 
+import thd.game.level.EndlessLevel;
+import thd.game.level.Level;
+import thd.game.level.LevelTemplate;
+import thd.game.level.RiverGenerator;
 import thd.game.utilities.GameView;
-import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.ActivatableGameObject;
 import thd.gameobjects.base.GameObject;
-import thd.gameobjects.movable.*;
+import thd.gameobjects.movable.JetFighter;
+import thd.gameobjects.movable.RedFuelBar;
+import thd.gameobjects.movable.TerrainLayer;
 import thd.gameobjects.unmovable.*;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 
 class GameWorldManager extends GamePlayManager {
+    private static final int FACTOR_FOR_X_COORDINATE = 11;
+    private static final int FACTOR_FOR_Y_COORDINATE = 50;
+    private static final double DEFAULT_STREAMING_DISTANCE = 1000;
+    private static final int ROWS_PER_TERRAIN_STRIP = 10;
+    private static final int TERRAIN_BELOW_LAST_ROW = 150;
     private final List<GameObject> activatableGameObjects;
-    private final List<CollidingGameObject> pathDecisionObjects;
+    private final LevelPrefetcher levelPrefetcher;
+    private final TerrainLayer terrainLayer;
+    private final HudLayer hudLayer;
+    private LevelTemplate levelTemplate;
+    private RiverGenerator riverGenerator;
+    private int nextRecord;
+    private int nextTerrainRecord;
+    private List<GameObject> preparedGameObjects;
+    private int numberOfUsedPreparedGameObjects;
+    private double streamingDistance;
 
     protected GameWorldManager(GameView gameView) {
         super(gameView);
         activatableGameObjects = new LinkedList<>();
-        pathDecisionObjects = new LinkedList<>();
+        streamingDistance = DEFAULT_STREAMING_DISTANCE;
+        levelPrefetcher = new LevelPrefetcher(this::prepareLevel);
+        preparedGameObjects = List.of();
         score = new Score(gameView, this);
         redFuelBar = new RedFuelBar(gameView, this);
         jetFighter = new JetFighter(gameView, this, redFuelBar);
@@ -27,6 +50,8 @@ class GameWorldManager extends GamePlayManager {
         sceneryLeft = new SceneryLeft(gameView, this);
         sceneryRight = new SceneryRight(gameView, this);
         overlay = new Overlay(gameView, this);
+        terrainLayer = new TerrainLayer(gameView, this);
+        hudLayer = new HudLayer(gameView, this, statusBar, fuelGage, score, lifeCounter);
     }
 
     private void spawnGameObjects() {
@@ -38,8 +63,8 @@ class GameWorldManager extends GamePlayManager {
         spawnGameObject(redFuelBar);
         spawnGameObject(sceneryLeft);
         spawnGameObject(sceneryRight);
-        pathDecisionObjects.add(sceneryLeft);
-        pathDecisionObjects.add(sceneryRight);
+        spawnGameObject(terrainLayer);
+        spawnGameObject(hudLayer);
         spawnGameObject(overlay);
     }
 
@@ -51,315 +76,190 @@ class GameWorldManager extends GamePlayManager {
     protected void initializeLevel() {
         activatableGameObjects.clear();
         destroyAllGameObjects();
-        clearListsForPathDecisionsInGameObjects();
+        jetFighter.setInitializeSpawnPoint(null);
+        terrainLayer.removeAllStrips();
         spawnGameObjects();
-        spawnGameObjectsFromWorldString();
+        PreparedLevel preparedLevel = levelPrefetcher.take(level);
+        riverGenerator = null;
+        if (level instanceof EndlessLevel endlessLevel) {
+            riverGenerator = new RiverGenerator(endlessLevel.seed);
+            levelTemplate = riverGenerator.nextChunk();
+            preparedGameObjects = List.of();
+        } else if (preparedLevel != null) {
+            levelTemplate = preparedLevel.getLevelTemplate();
+            preparedGameObjects = preparedLevel.getPreparedGameObjects();
+        } else {
+            levelTemplate = LevelTemplate.of(level);
+            preparedGameObjects = List.of();
+        }
+        nextRecord = 0;
+        nextTerrainRecord = 0;
+        numberOfUsedPreparedGameObjects = 0;
+        streamGameObjectsFromLevelTemplate();
+        preparedGameObjects = List.of();
     }
 
-    private void clearListsForPathDecisionsInGameObjects() {
-        jetFighter.removePathDecisionObjects();
-        pathDecisionObjects.clear();
+    /**
+     * Starts to prepare the level in the background, that is played after the current level.
+     *
+     * @param nextLevel The next level.
+     */
+    protected void prefetchLevel(Level nextLevel) {
+        levelPrefetcher.prefetch(nextLevel);
     }
 
-    private void spawnGameObjectsFromWorldString() {
-        String[] lines = level.world.split("\\R");
-        int factorForXCoordinate = 11;
-        int factorForYCoordinate = 50;
-        for (int lineIndex = 0; lineIndex < lines.length; lineIndex++) {
-            for (int columnIndex = 0; columnIndex < lines[lineIndex].length(); columnIndex++) {
-                char character = lines[lineIndex].charAt(columnIndex);
-                double x = (columnIndex - level.worldOffsetColumns) * factorForXCoordinate;
-                double y = (lineIndex - level.worldOffsetLines) * factorForYCoordinate;
-                if (character == 'B') {
-                    Balloon balloon = new Balloon(gameView, this);
-                    balloon.getPosition().updateCoordinates(x, y);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(balloon);
-                    } else {
-                        spawnGameObject(balloon);
-                    }
-                } else if (character == 'S') {
-                    Ship ship = new Ship(gameView, this);
-                    ship.getPosition().updateCoordinates(x, y);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(ship);
-                    } else {
-                        spawnGameObject(ship);
-                    }
-                } else if (character == 'H') {
-                    Helicopter helicopter = new Helicopter(gameView, this);
-                    helicopter.getPosition().updateCoordinates(x, y);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(helicopter);
-                    } else {
-                        spawnGameObject(helicopter);
-                    }
-                } else if (character == 'G') {
-                    GreyJet greyJet = new GreyJet(gameView, this);
-                    greyJet.getPosition().updateCoordinates(x, y);
-                    greyJet.initializeTheSpawnPoint(columnIndex < 40);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(greyJet);
-                    } else {
-                        spawnGameObject(greyJet);
-                    }
-                } else if (character == 'F') {
-                    FuelItem fuelItem = new FuelItem(gameView, this);
-                    fuelItem.getPosition().updateCoordinates(x, y);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(fuelItem);
-                    } else {
-                        spawnGameObject(fuelItem);
-                    }
-                } else if (character == 'T') {
-                    Tank tank = new Tank(gameView, this);
-                    tank.getPosition().updateCoordinates(x, y + 10);
-                    tank.initializeTheSpawnPoint(columnIndex < 40);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(tank);
-                    } else {
-                        spawnGameObject(tank);
-                    }
-                } else if (character == 'X') {
-                    Bridge bridge = new Bridge(gameView, this);
-                    bridge.getPosition().updateCoordinates(x + 4, y - 12);
-                    bridge.setCounterForLevel(level.number + 1);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(bridge);
-                    } else {
-                        spawnGameObject(bridge);
-                    }
-                } else if (character == 'L') {
-                    BridgeLeft bridgeLeft = new BridgeLeft(gameView, this);
-                    bridgeLeft.getPosition().updateCoordinates(x, y);
-                    pathDecisionObjects.add(bridgeLeft);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(bridgeLeft);
-                    } else {
-                        spawnGameObject(bridgeLeft);
-                    }
-                } else if (character == 'R') {
-                    BridgeRight bridgeRight = new BridgeRight(gameView, this);
-                    bridgeRight.getPosition().updateCoordinates(x - 6, y);
-                    pathDecisionObjects.add(bridgeRight);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(bridgeRight);
-                    } else {
-                        spawnGameObject(bridgeRight);
-                    }
-                } else if (character == 'Y') {
-                    RadioTower radioTower = new RadioTower(gameView, this);
-                    radioTower.getPosition().updateCoordinates(x, y);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(radioTower);
-                    } else {
-                        spawnGameObject(radioTower);
-                    }
-                } else if (character == 'Z') {
-                    RocketLaunch rocketLaunch = new RocketLaunch(gameView, this);
-                    rocketLaunch.getPosition().updateCoordinates(x, y);
-                    rocketLaunch.initializeTheSpawnPointForRocket(columnIndex < 40);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(rocketLaunch);
-                    } else {
-                        spawnGameObject(rocketLaunch);
-                    }
-                } else if (character == 'A') {
-                    Satellite satellite = new Satellite(gameView, this);
-                    satellite.getPosition().updateCoordinates(x, y);
-                    satellite.initializeTheSpawnPointForSatellite(columnIndex < 40);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(satellite);
-                    } else {
-                        spawnGameObject(satellite);
-                    }
-                } else if (character == 'C') {
-                    MovableSceneryLeft movableSceneryLeft = new MovableSceneryLeft(gameView, this);
-                    movableSceneryLeft.getPosition().updateCoordinates(x - 700, y);
-                    jetFighter.addPathDecisionObjects(movableSceneryLeft);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(movableSceneryLeft);
-                    } else {
-                        spawnGameObject(movableSceneryLeft);
-                    }
-                } else if (character == 'E') {
-                    MovableSceneryRight movableSceneryRight = new MovableSceneryRight(gameView, this);
-                    movableSceneryRight.getPosition().updateCoordinates(x, y);
-                    jetFighter.addPathDecisionObjects(movableSceneryRight);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(movableSceneryRight);
-                    } else {
-                        spawnGameObject(movableSceneryRight);
-                    }
-                } else if (character == 'W') {
-                    SpecialBorderForTank specialBorderForTank = new SpecialBorderForTank(gameView, this);
-                    specialBorderForTank.getPosition().updateCoordinates(x, y);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(specialBorderForTank);
-                    } else {
-                        spawnGameObject(specialBorderForTank);
-                    }
-                } else if (character == 'V') {
-                    BigIsland bigIsland = new BigIsland(gameView, this);
-                    bigIsland.getPosition().updateCoordinates(x, y);
-                    jetFighter.addPathDecisionObjects(bigIsland);
-                    for (CollidingGameObject hitbox : bigIsland.collectAllHitBoxes()) {
-                        jetFighter.addPathDecisionObjects(hitbox);
-                    }
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(bigIsland);
-                    } else {
-                        spawnGameObject(bigIsland);
-                    }
-                } else if (character == 'U') {
-                    SmallIsland smallIsland = new SmallIsland(gameView, this);
-                    smallIsland.getPosition().updateCoordinates(x, y);
-                    jetFighter.addPathDecisionObjects(smallIsland);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(smallIsland);
-                    } else {
-                        spawnGameObject(smallIsland);
-                    }
-                } else if (character == 'D') {
-                    InitializeSpawnPoint initializeSpawnPoint = new InitializeSpawnPoint(gameView, this);
-                    initializeSpawnPoint.getPosition().updateCoordinates(x, y);
-                    jetFighter.setInitializeSpawnPoint(initializeSpawnPoint);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(initializeSpawnPoint);
-                    } else {
-                        spawnGameObject(initializeSpawnPoint);
-                    }
-                } else if (character == 't') {
-                    Tree tree = new Tree(gameView, this);
-                    tree.getPosition().updateCoordinates(x, y);
-                    if (lineIndex < level.worldOffsetLines) {
-                        addActivatableGameObject(tree);
-                    } else {
-                        spawnGameObject(tree);
-                    }
-                }
+    /**
+     * Cancels the preparation of the next level, e.g. because the game is over.
+     */
+    protected void cancelLevelPrefetch() {
+        levelPrefetcher.cancel();
+    }
+
+    /**
+     * Creates the game objects of the level, that are spawned as soon as the level starts. This is done by the
+     * background thread of the {@link LevelPrefetcher}, so the game objects are only created and placed, but not
+     * initialized and not spawned.
+     *
+     * @param nextLevel The level to prepare.
+     * @return The prepared level or <code>null</code> if the preparation was cancelled.
+     */
+    private PreparedLevel prepareLevel(Level nextLevel) {
+        LevelTemplate template = LevelTemplate.of(nextLevel);
+        List<GameObject> gameObjects = new ArrayList<>();
+        for (int record = 0; record < template.getNumberOfRecords() && isWithinStreamingDistance(template, record, 0);
+             record++) {
+            if (Thread.currentThread().isInterrupted()) {
+                return null;
+            }
+            GameObjectFactory<?> factory = GameObjectFactory.forCharacter(template.getCharacter(record));
+            if (factory != null && factory.isSpawned()) {
+                gameObjects.add(factory.construct(this, xOf(template, record), yOf(template, record, 0)));
             }
         }
+        return new PreparedLevel(nextLevel, template, gameObjects);
     }
 
-    private void activateGameObjects() {
-        ListIterator<GameObject> iterator = activatableGameObjects.listIterator();
-        while (iterator.hasNext()) {
-            GameObject gameObject = iterator.next();
+    /**
+     * Sets how far above the upper edge of the window the rows of the level are read. Game objects are only created,
+     * when their row comes within this distance.
+     *
+     * @param streamingDistance The distance in pixels, large enough for the highest game object of a row.
+     */
+    protected void setStreamingDistance(double streamingDistance) {
+        this.streamingDistance = streamingDistance;
+    }
 
-            if (gameObject instanceof FuelItem fuelItem) {
-                if (fuelItem.tryToActivate(jetFighter)) {
-                    spawnGameObject(gameObject);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof Balloon balloon) {
-                if (balloon.tryToActivate(jetFighter)) {
-                    spawnGameObject(balloon);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof Ship ship) {
-                if (ship.tryToActivate(jetFighter)) {
-                    spawnGameObject(ship);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof Helicopter helicopter) {
-                if (helicopter.tryToActivate(jetFighter)) {
-                    spawnGameObject(helicopter);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof GreyJet greyJet) {
-                if (greyJet.tryToActivate(jetFighter)) {
-                    spawnGameObject(greyJet);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof Tank tank) {
-                if (tank.tryToActivate(jetFighter)) {
-                    spawnGameObject(tank);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof Bridge bridge) {
-                if (bridge.tryToActivate(jetFighter)) {
-                    bridge.setCounterForLevel(level.number + 1);
-                    spawnGameObject(bridge);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof BridgeLeft bridgeLeft) {
-                if (bridgeLeft.tryToActivate(jetFighter)) {
-                    spawnGameObject(bridgeLeft);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof BridgeRight bridgeRight) {
-                if (bridgeRight.tryToActivate(jetFighter)) {
-                    spawnGameObject(bridgeRight);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof RadioTower radioTower) {
-                if (radioTower.tryToActivate(jetFighter)) {
-                    spawnGameObject(radioTower);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof RocketLaunch rocketLaunch) {
-                if (rocketLaunch.tryToActivate(jetFighter)) {
-                    spawnGameObject(rocketLaunch);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof Satellite satellite) {
-                if (satellite.tryToActivate(jetFighter)) {
-                    spawnGameObject(satellite);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof MovableSceneryLeft movableSceneryLeft) {
-                if (movableSceneryLeft.tryToActivate(jetFighter)) {
-                    spawnGameObject(movableSceneryLeft);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof MovableSceneryRight movableSceneryRight) {
-                if (movableSceneryRight.tryToActivate(jetFighter)) {
-                    spawnGameObject(movableSceneryRight);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof SpecialBorderForTank specialBorderForTank) {
-                if (specialBorderForTank.tryToActivate(jetFighter)) {
-                    spawnGameObject(specialBorderForTank);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof BigIsland bigIsland) {
-                if (bigIsland.tryToActivate(jetFighter)) {
-                    spawnGameObject(bigIsland);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof SmallIsland smallIsland) {
-                if (smallIsland.tryToActivate(jetFighter)) {
-                    spawnGameObject(smallIsland);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof InitializeSpawnPoint initializeSpawnPoint) {
-                if (initializeSpawnPoint.tryToActivate(jetFighter)) {
-                    spawnGameObject(initializeSpawnPoint);
-                    iterator.remove();
-                }
-            } else if (gameObject instanceof Tree tree) {
-                if (tree.tryToActivate(jetFighter)) {
-                    spawnGameObject(tree);
-                    iterator.remove();
+    /**
+     * Creates the game objects of all rows of the level, that have come within the streaming distance since the last
+     * call. The records of the level template are read from the bottom row to the top row, the template itself is
+     * shared by all starts of the level, only the game objects are created anew. In the {@link EndlessLevel} the next
+     * chunk of the river is generated, as soon as all records of the current chunk have been read. The chunks below
+     * are not kept, their game objects are destroyed when they leave the window.
+     * <p>
+     * The banks and decorations are drawn into the strips of the {@link TerrainLayer}. A strip is added as soon as
+     * the first record of its rows is read.
+     */
+    private void streamGameObjectsFromLevelTemplate() {
+        while (true) {
+            while (nextRecord < levelTemplate.getNumberOfRecords()
+                   && isWithinStreamingDistance(levelTemplate, nextRecord, getWorldOffsetY())) {
+                if (nextRecord == nextTerrainRecord) {
+                    addTerrainStrip();
                 }
+                spawnGameObjectFromLevelTemplate(nextRecord);
+                nextRecord++;
             }
+            if (nextRecord < levelTemplate.getNumberOfRecords() || riverGenerator == null) {
+                return;
+            }
+            levelTemplate = riverGenerator.nextChunk();
+            nextRecord = 0;
+            nextTerrainRecord = 0;
         }
     }
 
     /**
-     * Returns a list of all game objects that are used as obstacles
-     * for path decision logic.
-     *
-     * @return A list of {@link CollidingGameObject} that block horizontally movement.
+     * Adds the strip of the terrain layer, that starts at the row of the next record and reaches up by
+     * {@value ROWS_PER_TERRAIN_STRIP} rows. The banks and decorations of these rows are created a second time, only to
+     * be drawn into the image of the strip. The strip reaches below its lowest row, because some decorations are
+     * higher than a row.
      */
-    List<CollidingGameObject> getPathDecisionObjects() {
-        return pathDecisionObjects;
+    private void addTerrainStrip() {
+        int lowestRow = levelTemplate.getRow(nextTerrainRecord);
+        int topRow = lowestRow - ROWS_PER_TERRAIN_STRIP + 1;
+        List<GameObject> terrain = new ArrayList<>();
+        while (nextTerrainRecord < levelTemplate.getNumberOfRecords()
+               && levelTemplate.getRow(nextTerrainRecord) >= topRow) {
+            int record = nextTerrainRecord++;
+            GameObjectFactory<?> factory = GameObjectFactory.forCharacter(levelTemplate.getCharacter(record));
+            if (factory != null && factory.isDrawnInTerrainStrip()) {
+                double y = (levelTemplate.getRow(record) - topRow) * FACTOR_FOR_Y_COORDINATE;
+                GameObject gameObject = factory.construct(this, xOf(levelTemplate, record), y);
+                factory.initialize(gameObject, this, levelTemplate.isInLeftHalf(record));
+                terrain.add(gameObject);
+            }
+        }
+        if (!terrain.isEmpty()) {
+            double y = (topRow - levelTemplate.getWorldOffsetLines()) * FACTOR_FOR_Y_COORDINATE + getWorldOffsetY();
+            int height = ROWS_PER_TERRAIN_STRIP * FACTOR_FOR_Y_COORDINATE + TERRAIN_BELOW_LAST_ROW;
+            terrainLayer.addStrip(y, height, terrain);
+        }
+    }
+
+    private boolean isWithinStreamingDistance(LevelTemplate template, int record, double worldOffsetY) {
+        return yOf(template, record, worldOffsetY) >= -streamingDistance;
+    }
+
+    private static double xOf(LevelTemplate template, int record) {
+        return (template.getColumn(record) - template.getWorldOffsetColumns()) * FACTOR_FOR_X_COORDINATE;
+    }
+
+    private static double yOf(LevelTemplate template, int record, double worldOffsetY) {
+        return (template.getRow(record) - template.getWorldOffsetLines()) * FACTOR_FOR_Y_COORDINATE + worldOffsetY;
+    }
+
+    private void spawnGameObjectFromLevelTemplate(int record) {
+        GameObjectFactory<?> factory = GameObjectFactory.forCharacter(levelTemplate.getCharacter(record));
+        if (factory == null || !factory.isSpawned()) {
+            return;
+        }
+        GameObject gameObject;
+        if (numberOfUsedPreparedGameObjects < preparedGameObjects.size()) {
+            gameObject = preparedGameObjects.get(numberOfUsedPreparedGameObjects++);
+        } else {
+            double y = yOf(levelTemplate, record, getWorldOffsetY());
+            gameObject = factory.construct(this, xOf(levelTemplate, record), y);
+        }
+        factory.initialize(gameObject, this, levelTemplate.isInLeftHalf(record));
+        if (levelTemplate.isAboveWindow(record) && factory.waitsForActivation()) {
+            addActivatableGameObject(gameObject);
+        } else {
+            spawnGameObject(gameObject);
+        }
+    }
+
+    private void activateGameObjects() {
+        Iterator<GameObject> iterator = activatableGameObjects.iterator();
+        while (iterator.hasNext()) {
+            GameObject gameObject = iterator.next();
+            if (tryToActivate(gameObject)) {
+                spawnGameObject(gameObject);
+                iterator.remove();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean tryToActivate(GameObject gameObject) {
+        return ((ActivatableGameObject<JetFighter>) gameObject).tryToActivate(jetFighter);
     }
 
     @Override
     protected void gameLoop() {
         super.gameLoop();
+        if (levelTemplate != null) {
+            streamGameObjectsFromLevelTemplate();
+        }
         activateGameObjects();
     }
 }
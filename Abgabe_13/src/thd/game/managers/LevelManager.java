@@ -2,30 +2,31 @@ package thd.game.managers;
 
 import thd.game.level.*;
 import thd.game.utilities.GameView;
-import thd.gameobjects.base.CollidingGameObject;
 
 import java.util.List;
 
 class LevelManager extends GameWorldManager {
-    private List<Level> levels;
+    private static final String ENDLESS_MODE_PROPERTY = "riverraid.endless";
+    private static final String SEED_PROPERTY = "riverraid.seed";
+    private final List<Level> levels;
+    private final boolean endlessMode;
 
     protected LevelManager(GameView gameView) {
         super(gameView);
-        initializeGame();
-    }
-
-    @Override
-    protected void initializeLevel() {
-        super.initializeLevel();
-        initializeGameObjects();
-    }
-
-    protected void initializeGame() {
+        endlessMode = Boolean.getBoolean(ENDLESS_MODE_PROPERTY);
         levels = List.of(
                 new Level1(), new Level2(), new Level3(), new Level4(), new Level5(), new Level6(),
                 new Level7(), new Level8(), new Level9(), new Level10(), new Level11(), new Level12()
         );
-        level = levels.get(0);
+        initializeGame();
+    }
+
+    protected void initializeGame() {
+        if (endlessMode) {
+            level = new EndlessLevel(Long.getLong(SEED_PROPERTY, System.nanoTime()));
+        } else {
+            level = levels.get(0);
+        }
         lives = switch (Level.difficulty) {
             case EASY -> 12;
             case STANDARD -> 10;
@@ -33,11 +34,30 @@ class LevelManager extends GameWorldManager {
         points = 0;
     }
 
+    /**
+     * Determines if the game is played in the {@link EndlessLevel} instead of the twelve levels. The endless mode is
+     * switched on with the system property <code>riverraid.endless=true</code>, the river can be fixed with the
+     * system property <code>riverraid.seed</code>.
+     *
+     * @return <code>true</code> in the endless mode.
+     */
+    protected boolean isEndlessMode() {
+        return endlessMode;
+    }
+
     protected boolean hasNextLevel() {
         int currentIndexForLevel = levels.indexOf(level);
         return currentIndexForLevel >= 0 && currentIndexForLevel < levels.size() - 1;
     }
 
+    @Override
+    protected void initializeLevel() {
+        super.initializeLevel();
+        if (hasNextLevel()) {
+            prefetchLevel(levels.get(levels.indexOf(level) + 1));
+        }
+    }
+
     protected void switchToNextLevel() {
         if (hasNextLevel()) {
             int currentIndexForLevel = levels.indexOf(level);
@@ -47,10 +67,4 @@ class LevelManager extends GameWorldManager {
             throw new NoMoreLevelsAvailableException("There are no more Levels available.");
         }
     }
-
-    private void initializeGameObjects() {
-        for (CollidingGameObject collidingGameObject : getPathDecisionObjects()) {
-            jetFighter.addPathDecisionObjects(collidingGameObject);
-        }
-    }
 }
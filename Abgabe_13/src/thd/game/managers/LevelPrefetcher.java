@@ -0,0 +1,78 @@
+package thd.game.managers;
+
+import thd.game.level.Level;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Prepares the next level on a background thread, while the current level is played. When the next level starts, the
+ * prepared level is taken over at once, if it is complete. Otherwise the level is loaded on the game thread as before.
+ */
+class LevelPrefetcher {
+    private final ExecutorService executor;
+    private final Function<Level, PreparedLevel> preparation;
+    private Future<PreparedLevel> prefetchedLevel;
+    private Level levelInPreparation;
+
+    LevelPrefetcher(Function<Level, PreparedLevel> preparation) {
+        this.preparation = preparation;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Level prefetcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts to prepare the level in the background. A level that was prepared before is discarded.
+     *
+     * @param level The level that is played next.
+     */
+    void prefetch(Level level) {
+        cancel();
+        levelInPreparation = level;
+        prefetchedLevel = executor.submit(() -> preparation.apply(level));
+    }
+
+    /**
+     * Takes the prepared level, if it is complete. A preparation that is not complete yet is cancelled.
+     *
+     * @param level The level that starts now.
+     * @return The prepared level or <code>null</code> if the level has to be loaded by the game thread.
+     */
+    PreparedLevel take(Level level) {
+        Future<PreparedLevel> prefetch = prefetchedLevel;
+        boolean complete = prefetch != null && levelInPreparation == level && prefetch.isDone() && !prefetch.isCancelled();
+        prefetchedLevel = null;
+        levelInPreparation = null;
+        if (!complete) {
+            if (prefetch != null) {
+                prefetch.cancel(true);
+            }
+            return null;
+        }
+        try {
+            return prefetch.get();
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Cancels the preparation of the next level, e.g. because the game is over.
+     */
+    void cancel() {
+        if (prefetchedLevel != null) {
+            prefetchedLevel.cancel(true);
+        }
+        prefetchedLevel = null;
+        levelInPreparation = null;
+    }
+}
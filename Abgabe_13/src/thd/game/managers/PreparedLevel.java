@@ -0,0 +1,36 @@
+package thd.game.managers;
+
+import thd.game.level.Level;
+import thd.game.level.LevelTemplate;
+import thd.gameobjects.base.GameObject;
+
+import java.util.List;
+
+/**
+ * A level, whose first game objects were already created by the {@link LevelPrefetcher}. The game objects belong to
+ * the first records of the level template, in the order of the records, and are placed for a world that has not been
+ * scrolled yet.
+ */
+class PreparedLevel {
+    private final Level level;
+    private final LevelTemplate levelTemplate;
+    private final List<GameObject> preparedGameObjects;
+
+    PreparedLevel(Level level, LevelTemplate levelTemplate, List<GameObject> preparedGameObjects) {
+        this.level = level;
+        this.levelTemplate = levelTemplate;
+        this.preparedGameObjects = preparedGameObjects;
+    }
+
+    Level getLevel() {
+        return level;
+    }
+
+    LevelTemplate getLevelTemplate() {
+        return levelTemplate;
+    }
+
+    List<GameObject> getPreparedGameObjects() {
+        return preparedGameObjects;
+    }
+}
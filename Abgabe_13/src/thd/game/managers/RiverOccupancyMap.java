@@ -0,0 +1,225 @@
+package thd.game.managers;
+
+import thd.game.utilities.GameView;
+import thd.gameobjects.base.CollidingGameObject;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Stores which parts of the river are blocked by the banks, islands and bridges of the current level. The level is
+ * divided into rows with the height of one line of the level world. Each row holds the blocked areas that reach into
+ * it in level coordinates, that means independent of how far the world has already been scrolled. Areas that do not
+ * scroll, like the static scenery at the borders, are stored in screen coordinates.
+ */
+class RiverOccupancyMap {
+    private static final int ROW_HEIGHT = 50;
+    private static final double CANDIDATE_STEP = 80;
+    private static final double LAST_CANDIDATE_X = GameView.WIDTH - 40.0;
+    private static final int INITIAL_AREAS_PER_ROW = 4;
+    private static final int ROWS_BELOW_WINDOW_TO_DISCARD = 32;
+
+    private double[][] blockedAreasPerRow;
+    private CollidingGameObject[][] ownersPerRow;
+    private int[] numberOfBlockedAreasPerRow;
+    private int firstRow;
+    private double[] staticBlockedAreas;
+    private int numberOfStaticBlockedAreas;
+
+    RiverOccupancyMap() {
+        blockedAreasPerRow = new double[0][];
+        ownersPerRow = new CollidingGameObject[0][];
+        numberOfBlockedAreasPerRow = new int[0];
+        staticBlockedAreas = new double[4 * INITIAL_AREAS_PER_ROW];
+    }
+
+    /**
+     * Removes all blocked areas, e.g. when a new level starts.
+     */
+    void clear() {
+        for (CollidingGameObject[] owners : ownersPerRow) {
+            Arrays.fill(owners, null);
+        }
+        Arrays.fill(numberOfBlockedAreasPerRow, 0);
+        numberOfStaticBlockedAreas = 0;
+    }
+
+    /**
+     * Marks the area of a hitbox as blocked for all rows it covers.
+     *
+     * @param owner        The game object that blocks the area.
+     * @param hitBox       The hitbox in screen coordinates.
+     * @param worldOffsetY How far the world has been scrolled down when the hitbox was taken.
+     */
+    void addScrollingBlockedArea(CollidingGameObject owner, Rectangle hitBox, double worldOffsetY) {
+        if (hitBox.isEmpty()) {
+            return;
+        }
+        double upperEdge = hitBox.y - worldOffsetY;
+        double lowerEdge = upperEdge + hitBox.height;
+        int upperRow = rowOf(upperEdge);
+        int lowerRow = rowOf(lowerEdge);
+        ensureRows(upperRow, lowerRow);
+        for (int row = upperRow; row <= lowerRow; row++) {
+            addBlockedArea(row - firstRow, owner, hitBox.x, hitBox.x + hitBox.width, upperEdge, lowerEdge);
+        }
+    }
+
+    /**
+     * Frees all areas that were blocked by the given game object while it scrolled with the world, e.g. because a
+     * bridge was destroyed.
+     *
+     * @param owner The game object that does not block the river anymore.
+     */
+    void removeScrollingBlockedArea(CollidingGameObject owner) {
+        for (int rowIndex = 0; rowIndex < numberOfBlockedAreasPerRow.length; rowIndex++) {
+            CollidingGameObject[] owners = ownersPerRow[rowIndex];
+            double[] blockedAreas = blockedAreasPerRow[rowIndex];
+            int index = 0;
+            while (index < numberOfBlockedAreasPerRow[rowIndex]) {
+                if (owners[index] == owner) {
+                    int last = --numberOfBlockedAreasPerRow[rowIndex];
+                    owners[index] = owners[last];
+                    owners[last] = null;
+                    System.arraycopy(blockedAreas, 4 * last, blockedAreas, 4 * index, 4);
+                } else {
+                    index++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the rows that have scrolled out of the window at the bottom. This is done only when enough rows have
+     * come together, so the rows are not copied in every frame. Without this, the map would grow for as long as the
+     * world scrolls, e.g. in the endless level.
+     *
+     * @param worldOffsetY How far the world has been scrolled down by now.
+     */
+    void discardRowsBelowWindow(double worldOffsetY) {
+        int numberOfRows = numberOfBlockedAreasPerRow.length;
+        int lastVisibleRow = rowOf(GameView.HEIGHT - worldOffsetY);
+        int numberOfRowsToKeep = Math.max(0, Math.min(numberOfRows, lastVisibleRow - firstRow + 1));
+        if (numberOfRows - numberOfRowsToKeep < ROWS_BELOW_WINDOW_TO_DISCARD) {
+            return;
+        }
+        blockedAreasPerRow = Arrays.copyOf(blockedAreasPerRow, numberOfRowsToKeep);
+        ownersPerRow = Arrays.copyOf(ownersPerRow, numberOfRowsToKeep);
+        numberOfBlockedAreasPerRow = Arrays.copyOf(numberOfBlockedAreasPerRow, numberOfRowsToKeep);
+    }
+
+    /**
+     * Marks the area of a hitbox as blocked, independent of the scrolling of the world.
+     *
+     * @param hitBox The hitbox in screen coordinates.
+     */
+    void addStaticBlockedArea(Rectangle hitBox) {
+        if (4 * (numberOfStaticBlockedAreas + 1) > staticBlockedAreas.length) {
+            staticBlockedAreas = Arrays.copyOf(staticBlockedAreas, staticBlockedAreas.length * 2);
+        }
+        int index = 4 * numberOfStaticBlockedAreas++;
+        staticBlockedAreas[index] = hitBox.x;
+        staticBlockedAreas[index + 1] = hitBox.x + hitBox.width;
+        staticBlockedAreas[index + 2] = hitBox.y;
+        staticBlockedAreas[index + 3] = hitBox.y + hitBox.height;
+    }
+
+    /**
+     * Searches the nearest x-coordinate on a grid of candidates, where the given hitbox would not touch any blocked
+     * area. Candidates are checked in the order of their distance to the preferred x-coordinate.
+     *
+     * @param preferredX   The x-coordinate of the game object that should be placed.
+     * @param hitBox       The hitbox of the game object at the preferred x-coordinate, in screen coordinates.
+     * @param worldOffsetY How far the world has been scrolled down by now.
+     * @return The nearest free x-coordinate of the game object or {@link Double#NaN} if there is none.
+     */
+    double nearestFreeX(double preferredX, Rectangle hitBox, double worldOffsetY) {
+        double hitBoxOffsetX = hitBox.x - preferredX;
+        int lastCandidate = (int) (LAST_CANDIDATE_X / CANDIDATE_STEP);
+        int leftCandidate = Math.max(-1, Math.min(lastCandidate, (int) Math.floor(preferredX / CANDIDATE_STEP)));
+        int rightCandidate = leftCandidate + 1;
+        while (leftCandidate >= 0 || rightCandidate <= lastCandidate) {
+            boolean leftCandidateIsNearer = rightCandidate > lastCandidate || leftCandidate >= 0
+                    && preferredX - leftCandidate * CANDIDATE_STEP <= rightCandidate * CANDIDATE_STEP - preferredX;
+            int candidate = leftCandidateIsNearer ? leftCandidate-- : rightCandidate++;
+            double candidateX = candidate * CANDIDATE_STEP;
+            if (isFree(candidateX + hitBoxOffsetX, hitBox, worldOffsetY)) {
+                return candidateX;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private boolean isFree(double hitBoxX, Rectangle hitBox, double worldOffsetY) {
+        double hitBoxRight = hitBoxX + hitBox.width;
+        for (int index = 0; index < 4 * numberOfStaticBlockedAreas; index += 4) {
+            if (staticBlockedAreas[index] < hitBoxRight && hitBoxX < staticBlockedAreas[index + 1]
+                && staticBlockedAreas[index + 2] < hitBox.y + hitBox.height && hitBox.y < staticBlockedAreas[index + 3]) {
+                return false;
+            }
+        }
+        double upperEdge = hitBox.y - worldOffsetY;
+        double lowerEdge = upperEdge + hitBox.height;
+        int upperRow = Math.max(firstRow, rowOf(upperEdge));
+        int lowerRow = Math.min(firstRow + numberOfBlockedAreasPerRow.length - 1, rowOf(lowerEdge));
+        for (int row = upperRow; row <= lowerRow; row++) {
+            double[] blockedAreas = blockedAreasPerRow[row - firstRow];
+            for (int index = 0; index < 4 * numberOfBlockedAreasPerRow[row - firstRow]; index += 4) {
+                if (blockedAreas[index] < hitBoxRight && hitBoxX < blockedAreas[index + 1]
+                    && blockedAreas[index + 2] < lowerEdge && upperEdge < blockedAreas[index + 3]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int rowOf(double levelY) {
+        return (int) Math.floor(levelY / ROW_HEIGHT);
+    }
+
+    private void addBlockedArea(int rowIndex, CollidingGameObject owner, double startX, double endX,
+                                double upperEdge, double lowerEdge) {
+        double[] blockedAreas = blockedAreasPerRow[rowIndex];
+        int numberOfBlockedAreas = numberOfBlockedAreasPerRow[rowIndex];
+        if (4 * (numberOfBlockedAreas + 1) > blockedAreas.length) {
+            blockedAreas = Arrays.copyOf(blockedAreas, blockedAreas.length * 2);
+            blockedAreasPerRow[rowIndex] = blockedAreas;
+            ownersPerRow[rowIndex] = Arrays.copyOf(ownersPerRow[rowIndex], blockedAreas.length / 4);
+        }
+        ownersPerRow[rowIndex][numberOfBlockedAreas] = owner;
+        int index = 4 * numberOfBlockedAreas;
+        blockedAreas[index] = startX;
+        blockedAreas[index + 1] = endX;
+        blockedAreas[index + 2] = upperEdge;
+        blockedAreas[index + 3] = lowerEdge;
+        numberOfBlockedAreasPerRow[rowIndex]++;
+    }
+
+    private void ensureRows(int upperRow, int lowerRow) {
+        int numberOfRows = numberOfBlockedAreasPerRow.length;
+        if (numberOfRows > 0 && upperRow >= firstRow && lowerRow < firstRow + numberOfRows) {
+            return;
+        }
+        int newFirstRow = numberOfRows == 0 ? upperRow : Math.min(firstRow, upperRow);
+        int newLastRow = numberOfRows == 0 ? lowerRow : Math.max(firstRow + numberOfRows - 1, lowerRow);
+        double[][] newBlockedAreasPerRow = new double[newLastRow - newFirstRow + 1][];
+        CollidingGameObject[][] newOwnersPerRow = new CollidingGameObject[newBlockedAreasPerRow.length][];
+        int[] newNumberOfBlockedAreasPerRow = new int[newBlockedAreasPerRow.length];
+        for (int row = newFirstRow; row <= newLastRow; row++) {
+            int oldIndex = row - firstRow;
+            if (numberOfRows > 0 && oldIndex >= 0 && oldIndex < numberOfRows) {
+                newBlockedAreasPerRow[row - newFirstRow] = blockedAreasPerRow[oldIndex];
+                newOwnersPerRow[row - newFirstRow] = ownersPerRow[oldIndex];
+                newNumberOfBlockedAreasPerRow[row - newFirstRow] = numberOfBlockedAreasPerRow[oldIndex];
+            } else {
+                newBlockedAreasPerRow[row - newFirstRow] = new double[4 * INITIAL_AREAS_PER_ROW];
+                newOwnersPerRow[row - newFirstRow] = new CollidingGameObject[INITIAL_AREAS_PER_ROW];
+            }
+        }
+        blockedAreasPerRow = newBlockedAreasPerRow;
+        ownersPerRow = newOwnersPerRow;
+        numberOfBlockedAreasPerRow = newNumberOfBlockedAreasPerRow;
+        firstRow = newFirstRow;
+    }
+}
@@ -0,0 +1,97 @@
+package thd.game.managers;
+
+/**
+ * Decides how many new game objects the {@link GameObjectManager} adds in one frame. As long as the number of game
+ * objects stays below a soft maximum and the last update of all game objects was fast enough, every new game object
+ * is added at once. Otherwise only a few new game objects are added per frame, the others wait in their order for the
+ * next frames.
+ */
+class SpawnBudget {
+    private static final int DEFAULT_MAXIMUM_NUMBER_OF_GAME_OBJECTS = 20_000;
+    private static final long DEFAULT_FRAME_TIME_BUDGET_IN_NANOSECONDS = 10_000_000;
+    private static final int DEFAULT_SPAWNS_PER_THROTTLED_FRAME = 32;
+
+    private int maximumNumberOfGameObjects;
+    private long frameTimeBudgetInNanoseconds;
+    private int spawnsPerThrottledFrame;
+    private long lastFrameTimeInNanoseconds;
+    private long numberOfDeferredSpawns;
+
+    SpawnBudget() {
+        maximumNumberOfGameObjects = DEFAULT_MAXIMUM_NUMBER_OF_GAME_OBJECTS;
+        frameTimeBudgetInNanoseconds = DEFAULT_FRAME_TIME_BUDGET_IN_NANOSECONDS;
+        spawnsPerThrottledFrame = DEFAULT_SPAWNS_PER_THROTTLED_FRAME;
+    }
+
+    /**
+     * Sets the soft maximum of game objects. When it is reached, new game objects are only added if others are removed.
+     *
+     * @param maximumNumberOfGameObjects The soft maximum, at least 1.
+     */
+    void setMaximumNumberOfGameObjects(int maximumNumberOfGameObjects) {
+        if (maximumNumberOfGameObjects < 1) {
+            throw new IllegalArgumentException("The maximum number of game objects must be positive!");
+        }
+        this.maximumNumberOfGameObjects = maximumNumberOfGameObjects;
+    }
+
+    /**
+     * Sets how long the update of all game objects may take, before the spawns are throttled.
+     *
+     * @param frameTimeBudgetInNanoseconds The time budget of one frame in nanoseconds.
+     */
+    void setFrameTimeBudgetInNanoseconds(long frameTimeBudgetInNanoseconds) {
+        if (frameTimeBudgetInNanoseconds <= 0) {
+            throw new IllegalArgumentException("The frame time budget must be positive!");
+        }
+        this.frameTimeBudgetInNanoseconds = frameTimeBudgetInNanoseconds;
+    }
+
+    /**
+     * Sets how many new game objects are added per frame, while the spawns are throttled.
+     *
+     * @param spawnsPerThrottledFrame Number of new game objects per frame, at least 1.
+     */
+    void setSpawnsPerThrottledFrame(int spawnsPerThrottledFrame) {
+        if (spawnsPerThrottledFrame < 1) {
+            throw new IllegalArgumentException("At least one game object has to be spawned per frame!");
+        }
+        this.spawnsPerThrottledFrame = spawnsPerThrottledFrame;
+    }
+
+    /**
+     * Stores how long the last update of all game objects took.
+     *
+     * @param lastFrameTimeInNanoseconds The time of the last update in nanoseconds.
+     */
+    void recordFrameTime(long lastFrameTimeInNanoseconds) {
+        this.lastFrameTimeInNanoseconds = lastFrameTimeInNanoseconds;
+    }
+
+    /**
+     * Returns how many of the waiting game objects may be added in this frame. The rest is counted as deferred.
+     *
+     * @param numberOfGameObjects        The number of game objects in the game.
+     * @param numberOfWaitingGameObjects The number of new game objects that wait to be added.
+     * @return The number of new game objects to add now.
+     */
+    int numberOfSpawnsAllowed(int numberOfGameObjects, int numberOfWaitingGameObjects) {
+        int allowed = Math.max(0, maximumNumberOfGameObjects - numberOfGameObjects);
+        if (lastFrameTimeInNanoseconds > frameTimeBudgetInNanoseconds) {
+            allowed = Math.min(allowed, spawnsPerThrottledFrame);
+        }
+        allowed = Math.min(allowed, numberOfWaitingGameObjects);
+        numberOfDeferredSpawns += numberOfWaitingGameObjects - allowed;
+        return allowed;
+    }
+
+    /**
+     * Returns how often a new game object had to wait for a later frame so far. A game object that waits for several
+     * frames is counted once per frame.
+     *
+     * @return Number of deferred spawns.
+     */
+    long numberOfDeferredSpawns() {
+        return numberOfDeferredSpawns;
+    }
+}
@@ -0,0 +1,165 @@
+package thd.game.managers;
+
+import thd.gameobjects.base.GameObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded ring buffer of spawn and destroy commands, that can be filled by any number of threads without locks and
+ * is emptied by the game thread only. Every cell has a sequence number: a producer claims the next cell by increasing
+ * the tail with compare and set, writes its command and publishes it by setting the sequence of the cell. The game
+ * thread reads all published commands in the order they were claimed.
+ * <p>
+ * If the ring buffer is full, producers on other threads wait until the game thread has emptied it. The game thread
+ * itself can not wait for itself, so {@link #offer(GameObject, boolean)} fails and the caller has to empty the queue
+ * first.
+ */
+class SpawnCommandQueue {
+    private static final int CAPACITY = 1024;
+    private static final int MASK = CAPACITY - 1;
+    private static final int SPINS_BEFORE_YIELD = 100;
+
+    private final GameObject[] gameObjects;
+    private final boolean[] removals;
+    private final boolean[] fromOtherThreads;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail;
+    private final AtomicLong numberOfStalledOffers;
+    private volatile Thread gameThread;
+    private long head;
+    private int numberOfCommandsInLastBatch;
+    private int largestBatch;
+
+    /**
+     * Receives the commands when the queue is emptied.
+     */
+    interface CommandHandler {
+        /**
+         * Applies one command.
+         *
+         * @param gameObject      The game object to spawn or destroy.
+         * @param removal         <code>true</code> if the game object should be destroyed.
+         * @param fromOtherThread <code>true</code> if the command was not given by the game thread.
+         */
+        void apply(GameObject gameObject, boolean removal, boolean fromOtherThread);
+    }
+
+    SpawnCommandQueue() {
+        gameObjects = new GameObject[CAPACITY];
+        removals = new boolean[CAPACITY];
+        fromOtherThreads = new boolean[CAPACITY];
+        sequences = new AtomicLongArray(CAPACITY);
+        for (int cell = 0; cell < CAPACITY; cell++) {
+            sequences.set(cell, cell);
+        }
+        tail = new AtomicLong();
+        numberOfStalledOffers = new AtomicLong();
+        gameThread = Thread.currentThread();
+    }
+
+    /**
+     * Determines if the current thread is the game thread, which empties the queue.
+     *
+     * @return <code>true</code> if called by the game thread.
+     */
+    boolean isGameThread() {
+        return Thread.currentThread() == gameThread;
+    }
+
+    /**
+     * Adds a command to the queue. Other threads wait, while the queue is full.
+     *
+     * @param gameObject The game object to spawn or destroy.
+     * @param removal    <code>true</code> if the game object should be destroyed.
+     * @return <code>false</code> if the queue is full and the game thread has to empty it first.
+     */
+    boolean offer(GameObject gameObject, boolean removal) {
+        boolean fromOtherThread = !isGameThread();
+        int spins = 0;
+        boolean stalled = false;
+        while (true) {
+            long position = tail.get();
+            int cell = (int) position & MASK;
+            long difference = sequences.get(cell) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    gameObjects[cell] = gameObject;
+                    removals[cell] = removal;
+                    fromOtherThreads[cell] = fromOtherThread;
+                    sequences.lazySet(cell, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                if (!stalled) {
+                    numberOfStalledOffers.incrementAndGet();
+                    stalled = true;
+                }
+                if (!fromOtherThread) {
+                    return false;
+                }
+                if (++spins < SPINS_BEFORE_YIELD) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands all commands, that were published so far, to the handler in the order they were given. Must only be
+     * called by the game thread.
+     *
+     * @param handler Applies the commands.
+     * @return Number of commands.
+     */
+    int drain(CommandHandler handler) {
+        gameThread = Thread.currentThread();
+        int numberOfCommands = 0;
+        while (true) {
+            int cell = (int) head & MASK;
+            if (sequences.get(cell) != head + 1) {
+                break;
+            }
+            GameObject gameObject = gameObjects[cell];
+            boolean removal = removals[cell];
+            boolean fromOtherThread = fromOtherThreads[cell];
+            gameObjects[cell] = null;
+            sequences.lazySet(cell, head + CAPACITY);
+            head++;
+            numberOfCommands++;
+            handler.apply(gameObject, removal, fromOtherThread);
+        }
+        numberOfCommandsInLastBatch = numberOfCommands;
+        largestBatch = Math.max(largestBatch, numberOfCommands);
+        return numberOfCommands;
+    }
+
+    /**
+     * Returns the number of commands that were applied by the last call of {@link #drain(CommandHandler)}.
+     *
+     * @return Number of commands in the last batch.
+     */
+    int numberOfCommandsInLastBatch() {
+        return numberOfCommandsInLastBatch;
+    }
+
+    /**
+     * Returns the largest number of commands that were applied by one call of {@link #drain(CommandHandler)}.
+     *
+     * @return Number of commands in the largest batch.
+     */
+    int largestBatch() {
+        return largestBatch;
+    }
+
+    /**
+     * Returns how often a command could not be added at once, because the queue was full.
+     *
+     * @return Number of commands that had to wait for the game thread.
+     */
+    long numberOfStalledOffers() {
+        return numberOfStalledOffers.get();
+    }
+}
@@ -3,25 +3,33 @@ package thd.game.managers;
 import thd.gameobjects.base.GameObject;
 import thd.gameobjects.base.ShiftableGameObject;
 import thd.game.utilities.GameView;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Manages the shifting of the gameWorld.
  */
 public class WorldShiftManager extends UserControlledGameObjectPool {
-    private final List<GameObject> shiftableGameObjects;
+    private final EntityRegistry entityRegistry;
+    private final EntityList<GameObject> shiftableGameObjects;
+    private double worldOffsetY;
 
     protected WorldShiftManager(GameView gameView) {
         super(gameView);
-        shiftableGameObjects = new LinkedList<>();
+        entityRegistry = new EntityRegistry();
+        shiftableGameObjects = new EntityList<>(entityRegistry);
+    }
+
+    /**
+     * Returns the registry, that gives the ids to all game objects in the lists of the managers.
+     *
+     * @return The entity registry.
+     */
+    protected EntityRegistry entityRegistry() {
+        return entityRegistry;
     }
 
     protected void addToShiftableGameObjectsIfShiftable(GameObject gameObject) {
         if (gameObject instanceof ShiftableGameObject) {
-            if (!shiftableGameObjects.contains(gameObject)) {
-                shiftableGameObjects.add(gameObject);
-            }
+            shiftableGameObjects.add(gameObject);
         }
     }
 
@@ -32,12 +40,32 @@ public class WorldShiftManager extends UserControlledGameObjectPool {
     protected void destroyGameObject(GameObject gameObject) {
         if (gameObject instanceof ShiftableGameObject) {
             shiftableGameObjects.remove(gameObject);
+            shiftableGameObjects.compactIfSparse();
         }
     }
 
 
     protected void destroyAllGameObjects() {
         shiftableGameObjects.clear();
+        worldOffsetY = 0;
+    }
+
+    /**
+     * Counts the pixels that all shiftable game objects move down by themselves in this frame.
+     *
+     * @param pixels Number of pixels the world scrolls down.
+     */
+    protected void scrollWorld(double pixels) {
+        worldOffsetY += pixels;
+    }
+
+    /**
+     * Returns how far the world has been scrolled down since the level started, including all shifts of the world.
+     *
+     * @return The vertical offset of the world in pixels.
+     */
+    protected double getWorldOffsetY() {
+        return worldOffsetY;
     }
 
     /**
@@ -77,7 +105,12 @@ public class WorldShiftManager extends UserControlledGameObjectPool {
     }
 
     private void shiftGameObjects(double shiftX, double shiftY) {
-        for (GameObject gameObject : shiftableGameObjects) {
+        worldOffsetY += shiftY;
+        for (int index = 0; index < shiftableGameObjects.size(); index++) {
+            GameObject gameObject = shiftableGameObjects.get(index);
+            if (gameObject == null) {
+                continue;
+            }
             gameObject.getPosition().right(shiftX);
             gameObject.getPosition().down(shiftY);
         }
@@ -8,6 +8,7 @@ import java.awt.event.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferStrategy;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.io.*;
 import java.net.URL;
 import java.util.*;
@@ -78,8 +79,12 @@ public final class GameView {
     /** Höhe der Leinwand in Pixeln. */
     public static final int HEIGHT = 720;
 
+    private static final int MAXIMAL_AREA_OF_CACHED_OVALS = 128 * 128;
+    private static final int MAXIMAL_AREA_OF_ROTATED_SPRITES = 128 * 128;
     private static int instances = 0;
     private final Canvas canvas;
+    private final Map<Object, RecordedImage> recordedImages;
+    private Canvas activeCanvas;
     private final Mouse mouse;
     private final Keyboard keyboard;
     private final Sound sound;
@@ -89,6 +94,7 @@ public final class GameView {
     private final Timer timer;
     private final Terminal terminal;
     private final TestEnvironment testEnvironment;
+    private double rotationStep;
 
     /**
      * Es wird ein Fenster mit einer Auflösung von {@value WIDTH} * {@value HEIGHT} Pixeln erzeugt<br>. Das Fenster
@@ -106,6 +112,8 @@ public final class GameView {
         keyboard = new Keyboard();
         sound = new Sound();
         canvas = new Canvas();
+        activeCanvas = canvas;
+        recordedImages = new IdentityHashMap<>();
         timer = new Timer();
         gameLoop = new GameLoop();
         swingAdapter.registerListeners(mouse, keyboard, sound);
@@ -188,6 +196,7 @@ public final class GameView {
      * liegen.<br><br>
      * <b>Überläufe:</b> Zeigt an, wie oft der Bildspeicher schon gelöscht werden musste, weil zu viel Speicher
      * benötigt wurde. Dieser Wert sollte bei <b>0</b> liegen.<br><br>
+     * <b>Spiel:</b> Zeigt die Werte an, die das Spiel mit {@link #updateGameStatistic(String, int)} meldet.<br><br>
      *
      * @param show True, falls die Statistik angezeigt werden soll.
      */
@@ -195,6 +204,33 @@ public final class GameView {
         statistic.showStatistics = show;
     }
 
+    /**
+     * Zeigt einen zusätzlichen Wert des Spiels in der Statistik an, siehe {@link #showStatistic(boolean)}. Die Werte
+     * erscheinen in einem eigenen Kasten in der Reihenfolge, in der sie zum ersten Mal gesetzt wurden, und werden wie
+     * die anderen Werte einmal pro Sekunde aktualisiert.
+     *
+     * @param description Die Beschreibung des Werts, z.B. "Kollisionen:".
+     * @param value       Der aktuelle Wert.
+     */
+    public void updateGameStatistic(String description, int value) {
+        statistic.gameValues.put(description, value);
+    }
+
+    /**
+     * Legt fest, in welchen Schritten gedrehte Bilder zwischengespeichert werden. Eine Rotation wird auf das nächste
+     * Vielfache der Schrittweite gerundet und das Bild wird für jeden Schritt nur einmal gedreht. Danach wird es so
+     * schnell wie ein Bild ohne Rotation gezeichnet. Große Bilder und Bilder bei einer Schrittweite von 0 werden in
+     * jedem Frame exakt gedreht. Die Schrittweite ist zu Beginn 0, alle Bilder werden also exakt gedreht.
+     *
+     * @param rotationStep Die Schrittweite in Grad, 0 für exakte Rotationen.
+     */
+    public void setRotationStep(double rotationStep) {
+        if (rotationStep < 0) {
+            throw new IllegalArgumentException("rotationStep can't be negative.");
+        }
+        this.rotationStep = rotationStep;
+    }
+
     /**
      * Setzt den Fenstertitel.
      *
@@ -304,6 +340,24 @@ public final class GameView {
         addImageToCanvasIfVisible(image, x, y, rotation);
     }
 
+    /**
+     * Diese Methode hat dieselbe Funktionalität wie die Methode
+     * {@link #addBlockImageToCanvas(String, double, double, double, double)}. Die Block-Grafik wurde aber vorher
+     * einmal in ein {@link BlockImage} übersetzt. Das ist für Block-Grafiken gedacht, die sich nicht verändern und in
+     * jedem Bild angezeigt werden: Der <code>String</code> muss dann nicht bei jedem Aufruf ausgewertet werden.
+     *
+     * @param blockImage Die übersetzte Block-Grafik.
+     * @param x          x-Koordinate, bei welcher die Grafik angezeigt werden soll. 0 ist links.
+     * @param y          y-Koordinate, bei welcher die Grafik angezeigt werden soll. 0 ist oben.
+     * @param blockSize  Die Größe eines einzelnen Farbblocks.
+     * @param rotation   Die Rotation des Bildes in Grad um den Mittelpunkt.
+     * @see #updateColorForBlockImage(char, Color)
+     */
+    public void addBlockImageToCanvas(BlockImage blockImage, double x, double y, double blockSize, double rotation) {
+        BufferedImage image = swingAdapter.createImageFromBlockImage(blockImage, blockSize);
+        addImageToCanvasIfVisible(image, x, y, rotation);
+    }
+
     /**
      * Schreibt den übergebenen Text auf die Leinwand (Canvas), ohne die bisherigen Inhalte zu löschen. Zusätzlich
      * werden Koordinaten ausgewertet: (0, 0) entspricht links oben {@link #GameView()}. Negative Koordinaten können
@@ -371,30 +425,58 @@ public final class GameView {
      * @param rotation         Die Rotation des Bildes in Grad um den Mittelpunkt.
      */
     public void addImageToCanvas(String imageFile, double x, double y, double imageScaleFactor, double rotation) {
-        BufferedImage image = swingAdapter.createImageFromFile(imageFile, imageScaleFactor);
-        addImageToCanvasIfVisible(image, x, y, rotation);
+        Sprite sprite = swingAdapter.createSpriteFromFile(imageFile, imageScaleFactor);
+        addImageToCanvasIfVisible(sprite.image, sprite.x, sprite.y, sprite.width, sprite.height, x, y, rotation);
     }
 
     private void addImageToCanvasIfVisible(BufferedImage image, double x, double y, double rotation) {
+        addImageToCanvasIfVisible(image, 0, 0, image.getWidth(), image.getHeight(), x, y, rotation);
+    }
+
+    private void addImageToCanvasIfVisible(BufferedImage image, int sourceX, int sourceY, int width, int height,
+                                           double x, double y, double rotation) {
         int xInt = (int) Math.ceil(
                 x * swingAdapter.paintingPanel.windowsScaleFactor * swingAdapter.paintingPanel.panelScaleFactor);
         int yInt = (int) Math.ceil(
                 y * swingAdapter.paintingPanel.windowsScaleFactor * swingAdapter.paintingPanel.panelScaleFactor);
-        int width = image.getWidth();
-        int height = image.getHeight();
         int diagonale = (int) Math.ceil(Math.sqrt(width * width + height * height));
-        if (swingAdapter.paintingPanel.scaledBounds.intersects(new java.awt.Rectangle(xInt, yInt, diagonale, diagonale))) {
-            canvas.addImageToCanvas(image, xInt, yInt, rotation);
+        if (scaledBoundsOfActiveCanvas().intersects(new java.awt.Rectangle(xInt, yInt, diagonale, diagonale))) {
+            if (rotation != 0 && rotationStep > 0 && width * height <= MAXIMAL_AREA_OF_ROTATED_SPRITES) {
+                addRotatedSpriteToCanvas(image, sourceX, sourceY, width, height, xInt, yInt, rotation, diagonale);
+            } else {
+                activeCanvas.addImageToCanvas(image, sourceX, sourceY, width, height, xInt, yInt, rotation);
+            }
         } else {
             statistic.invisiblePrintObjects++;
         }
     }
 
+    private void addRotatedSpriteToCanvas(BufferedImage image, int sourceX, int sourceY, int width, int height,
+                                          int x, int y, double rotation, int diagonale) {
+        double quantizedRotation = Math.round(rotation / rotationStep) * rotationStep % 360;
+        if (quantizedRotation < 0) {
+            quantizedRotation += 360;
+        }
+        if (quantizedRotation == 0) {
+            activeCanvas.addImageToCanvas(image, sourceX, sourceY, width, height, x, y, 0);
+            return;
+        }
+        int paddingX = (diagonale - width + 1) / 2;
+        int paddingY = (diagonale - height + 1) / 2;
+        BufferedImage rotatedSprite = swingAdapter.createRotatedSprite(
+                image, sourceX, sourceY, width, height, paddingX, paddingY, quantizedRotation);
+        activeCanvas.addImageToCanvas(rotatedSprite, 0, 0, rotatedSprite.getWidth(), rotatedSprite.getHeight(),
+                x - paddingX, y - paddingY, 0);
+    }
+
     /**
      * Diese Methode kann ein farbiges Oval auf die Leinwand (Canvas) zeichnen, ohne die bisherigen Inhalte zu löschen.
      * <p>
      * Die Koordinaten werden wie folgt ausgewertet: (0, 0) ist links oben {@link #GameView()}. Negative Koordinaten
      * können verwendet werden, um Ovale teilweise anzuzeigen.
+     * <p>
+     * Kleine Ovale, die nicht gefüllt sind, werden nur einmal pro Größe, Linienstärke, Farbe und Skalierung gezeichnet
+     * und danach als Bild aus einem Zwischenspeicher auf die Leinwand kopiert.
      *
      * @param xCenter    x-Koordinate des Mittelpunkts des Ovals. 0 ist links.
      * @param yCenter    y-Koordinate des Mittelpunkts des Ovals. 0 ist oben.
@@ -413,7 +495,15 @@ public final class GameView {
         int widthInt = (int) Math.ceil(width);
         int heightInt = (int) Math.ceil(height);
         if (rectangleIntersectsGameViewBounds(xInt, yInt, widthInt, heightInt, lineWeight)) {
-            canvas.addOvalToCanvas((int) Math.ceil(xCenter), (int) Math.ceil(yCenter), widthInt, heightInt, (int) Math.ceil(lineWeight), filled, color);
+            int xCenterInt = (int) Math.ceil(xCenter);
+            int yCenterInt = (int) Math.ceil(yCenter);
+            int lineWeightInt = (int) Math.ceil(lineWeight);
+            if (filled || widthInt * heightInt > MAXIMAL_AREA_OF_CACHED_OVALS) {
+                activeCanvas.addOvalToCanvas(xCenterInt, yCenterInt, widthInt, heightInt, lineWeightInt, filled, color);
+            } else {
+                BufferedImage image = swingAdapter.createImageFromOval(widthInt, heightInt, lineWeightInt, color);
+                addImageToCanvasIfVisible(image, xCenterInt - widthInt / 2 - 1, yCenterInt - heightInt / 2 - 1, 0);
+            }
         }
     }
 
@@ -421,7 +511,7 @@ public final class GameView {
         int halfLineWeight = (int) Math.round(lineWeight / 2);
         java.awt.Rectangle rect = new java.awt.Rectangle(
                 x - halfLineWeight, y - halfLineWeight, width + halfLineWeight, height + halfLineWeight);
-        boolean intersects = rect.intersects(swingAdapter.paintingPanel.bounds);
+        boolean intersects = rect.intersects(boundsOfActiveCanvas());
         if (!intersects) {
             statistic.invisiblePrintObjects++;
         }
@@ -452,7 +542,7 @@ public final class GameView {
         int widthInt = (int) Math.ceil(width);
         int heightInt = (int) Math.ceil(height);
         if (rectangleIntersectsGameViewBounds(xInt, yInt, widthInt, heightInt, lineWeight)) {
-            canvas.addRectangleToCanvas(xInt, yInt, widthInt, heightInt, (int) Math.round(lineWeight), filled, color);
+            activeCanvas.addRectangleToCanvas(xInt, yInt, widthInt, heightInt, (int) Math.round(lineWeight), filled, color);
         }
     }
 
@@ -481,7 +571,7 @@ public final class GameView {
         int[] xs = new int[]{xStartInt, xEndInt};
         int[] ys = new int[]{yStartInt, yEndInt};
         if (lineIntersectsGameViewBounds(xs, ys, lineWeight)) {
-            canvas.addLineToCanvas(xStartInt, yStartInt, xEndInt, yEndInt, (int) Math.round(lineWeight), color);
+            activeCanvas.addLineToCanvas(xStartInt, yStartInt, xEndInt, yEndInt, (int) Math.round(lineWeight), color);
         }
     }
 
@@ -511,7 +601,7 @@ public final class GameView {
         int[] xs = convertDoubleToIntArray(xCoordinates);
         int[] ys = convertDoubleToIntArray(yCoordinates);
         if (lineIntersectsGameViewBounds(xs, ys, lineWeight)) {
-            canvas.addPolyLineToCanvas(xs, ys, (int) Math.round(lineWeight), color);
+            activeCanvas.addPolyLineToCanvas(xs, ys, (int) Math.round(lineWeight), color);
         }
     }
 
@@ -536,7 +626,7 @@ public final class GameView {
         int[] xs = convertDoubleToIntArray(xCoordinates);
         int[] ys = convertDoubleToIntArray(yCoordinates);
         if (lineIntersectsGameViewBounds(xs, ys, lineWeight)) {
-            canvas.addPolygonToCanvas(xs, ys, (int) Math.round(lineWeight), filled, color);
+            activeCanvas.addPolygonToCanvas(xs, ys, (int) Math.round(lineWeight), filled, color);
         }
     }
 
@@ -548,6 +638,147 @@ public final class GameView {
         return converted;
     }
 
+    /**
+     * Hinterlegt ein Bild, das aus anderen Grafiken zusammengesetzt wird, z.B. aus dem Gelände eines Levels, das sich
+     * nicht verändert. Die übergebenen Zeichenbefehle rufen die üblichen Methoden wie
+     * {@link #addImageToCanvas(String, double, double, double, double)} oder
+     * {@link #addRectangleToCanvas(double, double, double, double, double, boolean, Color)} auf. Sie werden aber nicht
+     * auf die Leinwand übertragen, sondern einmal in ein Bild mit der angegebenen Breite und Höhe gezeichnet. Die
+     * Koordinaten (0, 0) sind dabei links oben im Bild. Das Bild kann anschließend mit
+     * {@link #addRecordedImageToCanvas(Object, double, double)} in jedem Bild als Ganzes auf die Leinwand übertragen
+     * werden.
+     * <p>
+     * Das Bild wird erst gezeichnet, wenn es zum ersten Mal angezeigt wird, oder schon vorher mit
+     * {@link #prepareRecordedImage(Object)}. Ändert sich die Größe des Fensters, werden die Zeichenbefehle erneut
+     * ausgeführt. Sie sollten also bei jedem Aufruf dasselbe zeichnen.
+     *
+     * @param id              Das Objekt, zu dem das Bild gehört. Dient zur eindeutigen Identifikation des Bildes.
+     * @param width           Breite des Bildes in Pixeln.
+     * @param height          Höhe des Bildes in Pixeln.
+     * @param drawingCommands Die Zeichenbefehle für das Bild.
+     */
+    public void recordImage(Object id, int width, int height, Runnable drawingCommands) {
+        recordImage(id, 0, 0, width, height, drawingCommands);
+    }
+
+    /**
+     * Diese Methode hat dieselbe Funktionalität wie die Methode {@link #recordImage(Object, int, int, Runnable)}. Die
+     * Zeichenbefehle verwenden aber die Koordinaten der Leinwand, z.B. für eine Anzeige am Rand des Fensters. Das Bild
+     * enthält den Ausschnitt der Leinwand mit der angegebenen linken oberen Ecke, Breite und Höhe.
+     * <p>
+     * Ein Bild, das sich nur gelegentlich ändert, wird nach jeder Änderung mit dieser Methode erneut hinterlegt. Das
+     * alte Bild wird dabei ersetzt.
+     *
+     * @param id              Das Objekt, zu dem das Bild gehört. Dient zur eindeutigen Identifikation des Bildes.
+     * @param x               x-Koordinate der linken oberen Ecke des Ausschnitts. 0 ist links.
+     * @param y               y-Koordinate der linken oberen Ecke des Ausschnitts. 0 ist oben.
+     * @param width           Breite des Bildes in Pixeln.
+     * @param height          Höhe des Bildes in Pixeln.
+     * @param drawingCommands Die Zeichenbefehle für das Bild.
+     */
+    public void recordImage(Object id, int x, int y, int width, int height, Runnable drawingCommands) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height have to be positive numbers.");
+        }
+        releaseRecordedImage(recordedImages.put(id, new RecordedImage(x, y, width, height, drawingCommands)));
+    }
+
+    /**
+     * Zeichnet ein Bild, das mit {@link #recordImage(Object, int, int, Runnable)} hinterlegt wurde, schon jetzt und
+     * nicht erst, wenn es zum ersten Mal angezeigt wird. So kann ein Bild, das bald ins Fenster kommt, z.B. ein
+     * Streifen des Geländes oberhalb des Fensters, vorbereitet werden, ohne dass das Bild, in dem es erscheint, länger
+     * dauert.
+     *
+     * @param id Das Objekt, zu dem das Bild gehört.
+     */
+    public void prepareRecordedImage(Object id) {
+        rasterizedImageOf(id);
+    }
+
+    /**
+     * Überträgt ein Bild, das mit {@link #recordImage(Object, int, int, Runnable)} hinterlegt wurde, auf die Leinwand
+     * (Canvas), ohne die bisherigen Inhalte zu löschen. Koordinaten werden ausgewertet: (0, 0) ist links oben
+     * {@link #GameView()}. Negative Koordinaten können verwendet werden, um das Bild teilweise anzuzeigen.
+     *
+     * @param id Das Objekt, zu dem das Bild gehört.
+     * @param x  x-Koordinate, bei welcher das Bild angezeigt werden soll. 0 ist links.
+     * @param y  y-Koordinate, bei welcher das Bild angezeigt werden soll. 0 ist oben.
+     */
+    public void addRecordedImageToCanvas(Object id, double x, double y) {
+        addImageToCanvasIfVisible(rasterizedImageOf(id), x, y, 0);
+    }
+
+    /**
+     * Entfernt ein Bild, das mit {@link #recordImage(Object, int, int, Runnable)} hinterlegt wurde, und gibt den
+     * Speicher frei.
+     *
+     * @param id Das Objekt, zu dem das Bild gehört.
+     */
+    public void removeRecordedImage(Object id) {
+        releaseRecordedImage(recordedImages.remove(id));
+    }
+
+    private BufferedImage rasterizedImageOf(Object id) {
+        RecordedImage recordedImage = recordedImages.get(id);
+        if (recordedImage == null) {
+            throw new IllegalArgumentException("Es wurde kein Bild zu diesem Objekt hinterlegt: " + id);
+        }
+        int scaleFactorHash = swingAdapter.paintingPanel.scaleFactorHash;
+        if (recordedImage.image == null || recordedImage.scaleFactorHash != scaleFactorHash) {
+            rasterizeRecordedImage(recordedImage);
+        }
+        return recordedImage.image;
+    }
+
+    private void releaseRecordedImage(RecordedImage recordedImage) {
+        if (recordedImage != null && recordedImage.image != null) {
+            swingAdapter.paintingPanel.decelerate(recordedImage.image);
+            recordedImage.image = null;
+        }
+    }
+
+    private void rasterizeRecordedImage(RecordedImage recordedImage) {
+        PaintingPanel paintingPanel = swingAdapter.paintingPanel;
+        double scaleFactor = paintingPanel.windowsScaleFactor * paintingPanel.panelScaleFactor;
+        Canvas recording = new Canvas();
+        recording.bounds = new java.awt.Rectangle(
+                recordedImage.x, recordedImage.y, recordedImage.width, recordedImage.height);
+        recording.scaledBounds = new java.awt.Rectangle(
+                (int) Math.ceil(recordedImage.x * scaleFactor), (int) Math.ceil(recordedImage.y * scaleFactor),
+                (int) Math.ceil(recordedImage.width * scaleFactor),
+                (int) Math.ceil(recordedImage.height * scaleFactor));
+        Canvas previousCanvas = activeCanvas;
+        activeCanvas = recording;
+        try {
+            recordedImage.drawingCommands.run();
+        } finally {
+            activeCanvas = previousCanvas;
+        }
+        BufferedImage image = paintingPanel.createCompatibleImage(
+                recording.scaledBounds.width, recording.scaledBounds.height);
+        AffineTransform imageTransform = AffineTransform.getTranslateInstance(
+                -recording.scaledBounds.x, -recording.scaledBounds.y);
+        AffineTransform shapeTransform = new AffineTransform(imageTransform);
+        shapeTransform.concatenate(paintingPanel.scaledTransform);
+        Graphics2D graphics2D = image.createGraphics();
+        graphics2D.setTransform(shapeTransform);
+        paintingPanel.draw(
+                graphics2D, recording.printObjects, new Color(0, 0, 0, 0), imageTransform, shapeTransform, false);
+        graphics2D.dispose();
+        releaseRecordedImage(recordedImage);
+        paintingPanel.accelerate(image);
+        recordedImage.image = image;
+        recordedImage.scaleFactorHash = paintingPanel.scaleFactorHash;
+    }
+
+    private java.awt.Rectangle boundsOfActiveCanvas() {
+        return activeCanvas.bounds != null ? activeCanvas.bounds : swingAdapter.paintingPanel.bounds;
+    }
+
+    private java.awt.Rectangle scaledBoundsOfActiveCanvas() {
+        return activeCanvas.scaledBounds != null ? activeCanvas.scaledBounds : swingAdapter.paintingPanel.scaledBounds;
+    }
+
     /**
      * Legt fest, ob die Maus im Fenster benutzt werden soll. Falls sie nicht benutzt wird, wird der Cursor der Maus auf
      * die Default-Ansicht zurückgesetzt und die Maus wird ausgeblendet. Falls sie benutzt wird, werden Maus-Ereignisse
@@ -916,6 +1147,10 @@ public final class GameView {
         protected final int y;
         protected final Color color;
         PrintType type;
+        private int left;
+        private int top;
+        private int right;
+        private int bottom;
 
         protected PrintObject(int x, int y, Color color) {
             this.x = x;
@@ -923,6 +1158,21 @@ public final class GameView {
             this.color = color;
         }
 
+        /**
+         * Legt die Fläche fest, die das PrintObject höchstens bemalt. Sie wird um den Rand vergrößert, damit die
+         * Linienstärke und das Runden beim Skalieren sicher eingeschlossen sind.
+         */
+        protected void setBounds(int minX, int minY, int maxX, int maxY, int margin) {
+            left = minX - margin - 1;
+            top = minY - margin - 1;
+            right = maxX + margin + 1;
+            bottom = maxY + margin + 1;
+        }
+
+        protected int graphicsStateKey() {
+            return color.getRGB();
+        }
+
         protected enum PrintType {
             OVAL, RECTANGLE, IMAGE_OBJECT, POLYGON, POLYLINE, LINE
         }
@@ -941,6 +1191,12 @@ public final class GameView {
             this.height = height;
             this.lineWeight = lineWeight;
             this.filled = filled;
+            setBounds(xCenter - width / 2, yCenter - height / 2, xCenter + width, yCenter + height, lineWeight);
+        }
+
+        @Override
+        protected int graphicsStateKey() {
+            return 31 * color.getRGB() + lineWeight;
         }
     }
 
@@ -957,6 +1213,12 @@ public final class GameView {
             this.height = height;
             this.lineWeight = lineWeight;
             this.filled = filled;
+            setBounds(x, y, x + width, y + height, lineWeight);
+        }
+
+        @Override
+        protected int graphicsStateKey() {
+            return 31 * color.getRGB() + lineWeight;
         }
     }
 
@@ -971,6 +1233,13 @@ public final class GameView {
             this.xEnd = xEnd;
             this.yEnd = yEnd;
             this.lineWeight = lineWeight;
+            setBounds(Math.min(xStart, xEnd), Math.min(yStart, yEnd), Math.max(xStart, xEnd), Math.max(yStart, yEnd),
+                    lineWeight);
+        }
+
+        @Override
+        protected int graphicsStateKey() {
+            return 31 * color.getRGB() + lineWeight;
         }
     }
 
@@ -987,6 +1256,12 @@ public final class GameView {
             this.yCoordinates = yCoordinates;
             this.lineWeight = lineWeight;
             this.filled = filled;
+            setBoundsOfCoordinates(this, xCoordinates, yCoordinates, lineWeight);
+        }
+
+        @Override
+        protected int graphicsStateKey() {
+            return 31 * color.getRGB() + lineWeight;
         }
     }
 
@@ -1001,24 +1276,267 @@ public final class GameView {
             this.xCoordinates = xCoordinates;
             this.yCoordinates = yCoordinates;
             this.lineWeight = lineWeight;
+            setBoundsOfCoordinates(this, xCoordinates, yCoordinates, lineWeight);
         }
+
+        @Override
+        protected int graphicsStateKey() {
+            return 31 * color.getRGB() + lineWeight;
+        }
+    }
+
+    private static void setBoundsOfCoordinates(PrintObject printObject, int[] xCoordinates, int[] yCoordinates,
+                                               int lineWeight) {
+        IntSummaryStatistics statX = Arrays.stream(xCoordinates).summaryStatistics();
+        IntSummaryStatistics statY = Arrays.stream(yCoordinates).summaryStatistics();
+        // Spitze Ecken ragen bis zur Hälfte des Gehrungslimits von BasicStroke (10) mal der Linienstärke heraus.
+        printObject.setBounds(statX.getMin(), statY.getMin(), statX.getMax(), statY.getMax(), 5 * lineWeight);
     }
 
     private static class ImageObject extends PrintObject {
         private final BufferedImage image;
+        private final int sourceX;
+        private final int sourceY;
+        private final int width;
+        private final int height;
         private final double rotation;
 
-        private ImageObject(int x, int y, BufferedImage image, double rotation) {
+        private ImageObject(int x, int y, BufferedImage image, int sourceX, int sourceY, int width, int height,
+                            double rotation) {
             super(x, y, Color.BLACK);
             this.type = PrintType.IMAGE_OBJECT;
             this.image = image;
+            this.sourceX = sourceX;
+            this.sourceY = sourceY;
+            this.width = width;
+            this.height = height;
             this.rotation = rotation;
+            if (rotation == 0) {
+                setBounds(x, y, x + width, y + height, 0);
+            } else {
+                int radius = (int) Math.ceil(Math.hypot(width, height) / 2);
+                setBounds(x + width / 2 - radius, y + height / 2 - radius, x + width / 2 + radius,
+                        y + height / 2 + radius, 1);
+            }
+        }
+
+        @Override
+        protected int graphicsStateKey() {
+            return System.identityHashCode(image);
+        }
+    }
+
+    private static class Sprite {
+        private final BufferedImage image;
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        private Sprite(BufferedImage image, int x, int y, int width, int height) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    private static final class SpriteKey {
+        private final String imageFileName;
+        private final int scalePercent;
+        private final int scaleFactorHash;
+
+        private SpriteKey(String imageFileName, int scalePercent, int scaleFactorHash) {
+            this.imageFileName = imageFileName;
+            this.scalePercent = scalePercent;
+            this.scaleFactorHash = scaleFactorHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SpriteKey other = (SpriteKey) o;
+            return scalePercent == other.scalePercent
+                    && scaleFactorHash == other.scaleFactorHash
+                    && imageFileName.equals(other.imageFileName);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * imageFileName.hashCode() + scalePercent;
+            return 31 * hash + scaleFactorHash;
+        }
+    }
+
+    private static class SpriteAtlas {
+        private static final int PAGE_SIZE = 1024;
+        private static final int PADDING = 1;
+        private final HashMap<SpriteKey, Sprite> sprites;
+        private final ArrayList<BufferedImage> pages;
+        private int shelfX;
+        private int shelfY;
+        private int shelfHeight;
+
+        private SpriteAtlas() {
+            sprites = new HashMap<>();
+            pages = new ArrayList<>();
+        }
+
+        private Sprite add(SpriteKey key, BufferedImage image, PaintingPanel paintingPanel) {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            Sprite sprite;
+            if (width > PAGE_SIZE || height > PAGE_SIZE) {
+                sprite = new Sprite(image, 0, 0, width, height);
+            } else {
+                if (shelfX + width > PAGE_SIZE) {
+                    shelfX = 0;
+                    shelfY += shelfHeight + PADDING;
+                    shelfHeight = 0;
+                }
+                if (pages.isEmpty() || shelfY + height > PAGE_SIZE) {
+                    pages.add(paintingPanel.createCompatibleImage(PAGE_SIZE, PAGE_SIZE));
+                    shelfX = 0;
+                    shelfY = 0;
+                    shelfHeight = 0;
+                }
+                BufferedImage page = pages.get(pages.size() - 1);
+                Graphics2D graphics2D = page.createGraphics();
+                graphics2D.setComposite(AlphaComposite.Src);
+                graphics2D.drawImage(image, shelfX, shelfY, null);
+                graphics2D.dispose();
+                paintingPanel.accelerate(page);
+                sprite = new Sprite(page, shelfX, shelfY, width, height);
+                shelfX += width + PADDING;
+                shelfHeight = Math.max(shelfHeight, height);
+            }
+            sprites.put(key, sprite);
+            return sprite;
+        }
+
+        private void clear() {
+            sprites.clear();
+            pages.clear();
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+    }
+
+    private static final class OvalImageKey {
+        private final int width;
+        private final int height;
+        private final int lineWeight;
+        private final Color color;
+        private final int scaleFactorHash;
+
+        private OvalImageKey(int width, int height, int lineWeight, Color color, int scaleFactorHash) {
+            this.width = width;
+            this.height = height;
+            this.lineWeight = lineWeight;
+            this.color = color;
+            this.scaleFactorHash = scaleFactorHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            OvalImageKey other = (OvalImageKey) o;
+            return width == other.width
+                    && height == other.height
+                    && lineWeight == other.lineWeight
+                    && scaleFactorHash == other.scaleFactorHash
+                    && color.equals(other.color);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * width + height;
+            hash = 31 * hash + lineWeight;
+            hash = 31 * hash + color.getRGB();
+            return 31 * hash + scaleFactorHash;
+        }
+    }
+
+    private static final class RotatedSpriteKey {
+        private final BufferedImage image;
+        private final int sourceX;
+        private final int sourceY;
+        private final int width;
+        private final int height;
+        private final double rotation;
+
+        private RotatedSpriteKey(BufferedImage image, int sourceX, int sourceY, int width, int height,
+                                 double rotation) {
+            this.image = image;
+            this.sourceX = sourceX;
+            this.sourceY = sourceY;
+            this.width = width;
+            this.height = height;
+            this.rotation = rotation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RotatedSpriteKey other = (RotatedSpriteKey) o;
+            return image == other.image
+                    && sourceX == other.sourceX
+                    && sourceY == other.sourceY
+                    && width == other.width
+                    && height == other.height
+                    && Double.compare(rotation, other.rotation) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * System.identityHashCode(image) + sourceX;
+            hash = 31 * hash + sourceY;
+            hash = 31 * hash + width;
+            hash = 31 * hash + height;
+            return 31 * hash + Double.hashCode(rotation);
+        }
+    }
+
+    private static class RecordedImage {
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+        private final Runnable drawingCommands;
+        private BufferedImage image;
+        private int scaleFactorHash;
+
+        private RecordedImage(int x, int y, int width, int height, Runnable drawingCommands) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.drawingCommands = drawingCommands;
         }
     }
 
     private static class Canvas {
         private Color backgroundColor;
         private ArrayList<PrintObject> printObjects;
+        private java.awt.Rectangle bounds;
+        private java.awt.Rectangle scaledBounds;
 
         private Canvas() {
             this.backgroundColor = Color.black;
@@ -1029,8 +1547,9 @@ public final class GameView {
             this.backgroundColor = backgroundColor;
         }
 
-        private void addImageToCanvas(BufferedImage image, int x, int y, double rotation) {
-            printObjects.add(new ImageObject(x, y, image, rotation));
+        private void addImageToCanvas(BufferedImage image, int sourceX, int sourceY, int width, int height,
+                                      int x, int y, double rotation) {
+            printObjects.add(new ImageObject(x, y, image, sourceX, sourceY, width, height, rotation));
         }
 
         private void addRectangleToCanvas(int x, int y, int width, int height, int lineWeight, boolean filled, Color color) {
@@ -1508,10 +2027,14 @@ public final class GameView {
         private final Frame frame;
         private final ConcurrentHashMap<String, Font> storedFonts;
         private final HashMap<Integer, BufferedImage> imageMap;
+        private final HashMap<OvalImageKey, BufferedImage> ovalImages;
+        private final HashMap<RotatedSpriteKey, BufferedImage> rotatedSprites;
+        private final SpriteAtlas spriteAtlas;
         private Sound sound;
         private Mouse mouse;
         private Font activeFont;
         private HashMap<Character, Color> colorMap;
+        private int colorMapVersion;
         private double sizeOfImageMapInMB;
         private int imageMapRefreshCounter;
         private volatile boolean blockUntilFontIsLoaded;
@@ -1522,6 +2045,9 @@ public final class GameView {
             activeFont = new Font("Monospaced", Font.PLAIN, 15);
             initColorMap();
             imageMap = new HashMap<>();
+            ovalImages = new HashMap<>();
+            rotatedSprites = new HashMap<>();
+            spriteAtlas = new SpriteAtlas();
             storedFonts = new ConcurrentHashMap<>();
             storedFonts.put("standardfont", activeFont);
         }
@@ -1544,6 +2070,7 @@ public final class GameView {
 
         private void setColorForBlockImage(char character, Color color) {
             colorMap.put(character, color);
+            colorMapVersion++;
         }
 
         private void registerListeners(Mouse mouse, Keyboard keyboard, Sound sound) {
@@ -1584,8 +2111,7 @@ public final class GameView {
         }
 
         private BufferedImage createImage(int width, int height, double scale) {
-            return new BufferedImage((int) Math.ceil(width * scale), (int) Math.ceil(
-                    height * scale), BufferedImage.TYPE_INT_ARGB_PRE);
+            return paintingPanel.createCompatibleImage((int) Math.ceil(width * scale), (int) Math.ceil(height * scale));
         }
 
         private Graphics2D createGraphics2D(BufferedImage image, double scale) {
@@ -1595,11 +2121,11 @@ public final class GameView {
             return graphics2D;
         }
 
-        private BufferedImage createImageFromFile(String imageFileName, double imageScaleFactor) {
-            int hash = Objects.hash(imageFileName, (int) Math.round(
-                    imageScaleFactor * 100), paintingPanel.scaleFactorHash);
-            BufferedImage image = imageMap.get(hash);
-            if (image == null) {
+        private Sprite createSpriteFromFile(String imageFileName, double imageScaleFactor) {
+            SpriteKey key = new SpriteKey(imageFileName, (int) Math.round(imageScaleFactor * 100),
+                    paintingPanel.scaleFactorHash);
+            Sprite sprite = spriteAtlas.sprites.get(key);
+            if (sprite == null) {
                 if (imageScaleFactor <= 0) {
                     throw new IllegalArgumentException("scaleFactor has to be a positive number.");
                 }
@@ -1619,16 +2145,105 @@ public final class GameView {
                 double scale = paintingPanel.windowsScaleFactor * paintingPanel.panelScaleFactor * imageScaleFactor;
                 int width = imageFromDisk.getWidth();
                 int height = imageFromDisk.getHeight();
-                image = createImage(width, height, scale);
+                BufferedImage image = createImage(width, height, scale);
                 scale = image.getWidth() / (1d * width);
                 Graphics2D graphics2D = createGraphics2D(image, scale);
                 graphics2D.drawImage(imageFromDisk, 0, 0, null);
                 graphics2D.dispose();
-                addImageToMapOrClearMap(hash, image);
+                clearImageCachesIfNecessary();
+                int numberOfPages = spriteAtlas.pages.size();
+                sprite = spriteAtlas.add(key, image, paintingPanel);
+                if (sprite.image == image) {
+                    sizeOfImageMapInMB += image.getHeight() * image.getWidth() * 0.000004;
+                } else if (spriteAtlas.pages.size() > numberOfPages) {
+                    sizeOfImageMapInMB += SpriteAtlas.PAGE_SIZE * SpriteAtlas.PAGE_SIZE * 0.000004;
+                }
+            }
+            return sprite;
+        }
+
+        private BufferedImage createRotatedSprite(BufferedImage image, int sourceX, int sourceY, int width, int height,
+                                                  int paddingX, int paddingY, double rotation) {
+            RotatedSpriteKey key = new RotatedSpriteKey(image, sourceX, sourceY, width, height, rotation);
+            BufferedImage rotatedSprite = rotatedSprites.get(key);
+            if (rotatedSprite == null) {
+                rotatedSprite = paintingPanel.createCompatibleImage(width + 2 * paddingX, height + 2 * paddingY);
+                Graphics2D graphics2D = rotatedSprite.createGraphics();
+                graphics2D.rotate(Math.toRadians(rotation), paddingX + width / 2.0, paddingY + height / 2.0);
+                graphics2D.drawImage(image, paddingX, paddingY, paddingX + width, paddingY + height,
+                        sourceX, sourceY, sourceX + width, sourceY + height, null);
+                graphics2D.dispose();
+                clearImageCachesIfNecessary();
+                rotatedSprites.put(key, rotatedSprite);
+                sizeOfImageMapInMB += rotatedSprite.getHeight() * rotatedSprite.getWidth() * 0.000004;
+            }
+            return rotatedSprite;
+        }
+
+        private BufferedImage createImageFromBlockImage(BlockImage blockImage, double blockSize) {
+            int roundedBlockSize = (int) Math.round(blockSize);
+            if (blockImage.image == null || blockImage.blockSize != roundedBlockSize
+                || blockImage.scaleFactorHash != paintingPanel.scaleFactorHash
+                || blockImage.colorMapVersion != colorMapVersion) {
+                if (blockSize < 0.5) {
+                    throw new IllegalArgumentException("blockSize has to be at least 0.5.");
+                }
+                blockImage.image = rasterizeBlockImage(blockImage, roundedBlockSize);
+                blockImage.blockSize = roundedBlockSize;
+                blockImage.scaleFactorHash = paintingPanel.scaleFactorHash;
+                blockImage.colorMapVersion = colorMapVersion;
+            }
+            return blockImage.image;
+        }
+
+        private BufferedImage rasterizeBlockImage(BlockImage blockImage, int roundedBlockSize) {
+            double scale = paintingPanel.windowsScaleFactor * paintingPanel.panelScaleFactor;
+            int width = blockImage.columns * roundedBlockSize;
+            int height = blockImage.rows * roundedBlockSize;
+            BufferedImage image = createImage(width, height, scale);
+            scale = image.getWidth() / (1d * width);
+            double offsetToPreventRoundingErrors = 0.000000001;
+            Graphics2D graphics2D = createGraphics2D(image, scale + offsetToPreventRoundingErrors);
+            for (int row = 0; row < blockImage.rows; row++) {
+                for (int column = 0; column < blockImage.columns; column++) {
+                    Color color = colorMap.get((char) blockImage.blocks[row * blockImage.columns + column]);
+                    if (color != null) {
+                        graphics2D.setColor(color);
+                        graphics2D.fillRect(
+                                column * roundedBlockSize, row * roundedBlockSize, roundedBlockSize, roundedBlockSize);
+                    }
+                }
+            }
+            graphics2D.dispose();
+            return image;
+        }
+
+        private BufferedImage createImageFromOval(int width, int height, int lineWeight, Color color) {
+            OvalImageKey key = new OvalImageKey(width, height, lineWeight, color, paintingPanel.scaleFactorHash);
+            BufferedImage image = ovalImages.get(key);
+            if (image == null) {
+                Oval oval = new Oval(width / 2 + 1, height / 2 + 1, width, height, lineWeight, false, color);
+                image = createImageFromShape(oval, width + lineWeight + 2, height + lineWeight + 2);
+                clearImageCachesIfNecessary();
+                ovalImages.put(key, image);
+                sizeOfImageMapInMB += image.getHeight() * image.getWidth() * 0.000004;
             }
             return image;
         }
 
+        private BufferedImage createImageFromShape(PrintObject shape, int width, int height) {
+            double scale = paintingPanel.windowsScaleFactor * paintingPanel.panelScaleFactor;
+            BufferedImage image = createImage(width, height, scale);
+            AffineTransform shapeTransform = AffineTransform.getScaleInstance(scale, scale);
+            Graphics2D graphics2D = image.createGraphics();
+            graphics2D.setTransform(shapeTransform);
+            ArrayList<PrintObject> printObjects = new ArrayList<>(List.of(shape));
+            paintingPanel.draw(graphics2D, printObjects, new Color(0, 0, 0, 0), paintingPanel.identity,
+                    shapeTransform, false);
+            graphics2D.dispose();
+            return image;
+        }
+
         private BufferedImage createImageFromColorString(String colorString, double blockSize) {
             int roundedBlockSize = (int) Math.round(blockSize);
             int hash = Objects.hash(colorString, roundedBlockSize, paintingPanel.scaleFactorHash);
@@ -1637,27 +2252,7 @@ public final class GameView {
                 if (blockSize < 0.5) {
                     throw new IllegalArgumentException("blockSize has to be at least 0.5.");
                 }
-                String[] lines = colorString.split("\\R");
-                double scale = paintingPanel.windowsScaleFactor * paintingPanel.panelScaleFactor;
-                int width = Arrays.stream(lines).mapToInt(String::length).max().orElse(1) * roundedBlockSize;
-                int height = lines.length * roundedBlockSize;
-                image = createImage(width, height, scale);
-                scale = image.getWidth() / (1d * width);
-                double offsetToPreventRoundingErrors = 0.000000001;
-                Graphics2D graphics2D = createGraphics2D(image, scale + offsetToPreventRoundingErrors);
-                for (int lineIndex = 0; lineIndex < lines.length; lineIndex++) {
-                    char[] blocks = lines[lineIndex].toCharArray();
-                    for (int columnIndex = 0; columnIndex < blocks.length; columnIndex++) {
-                        Color color = colorMap.get(blocks[columnIndex]);
-                        if (color != null) {
-                            graphics2D.setColor(color);
-                            graphics2D.fillRect(
-                                    columnIndex * roundedBlockSize,
-                                    lineIndex * roundedBlockSize, roundedBlockSize, roundedBlockSize);
-                        }
-                    }
-                }
-                graphics2D.dispose();
+                image = rasterizeBlockImage(new BlockImage(colorString), roundedBlockSize);
                 addImageToMapOrClearMap(hash, image);
             }
             return image;
@@ -1709,16 +2304,23 @@ public final class GameView {
         }
 
         private void addImageToMapOrClearMap(int hash, BufferedImage image) {
+            clearImageCachesIfNecessary();
+            imageMap.put(hash, image);
+            sizeOfImageMapInMB += image.getHeight() * image.getWidth() * 0.000004;
+        }
+
+        private void clearImageCachesIfNecessary() {
             if (sizeOfImageMapInMB > IMAGE_MAP_LIMIT_IN_MB || paintingPanel.scaleFactorChanged) {
                 imageMap.clear();
+                ovalImages.clear();
+                rotatedSprites.clear();
+                spriteAtlas.clear();
                 sizeOfImageMapInMB = 0;
                 if (!paintingPanel.scaleFactorChanged) {
                     imageMapRefreshCounter++;
                 }
                 paintingPanel.scaleFactorChanged = false;
             }
-            imageMap.put(hash, image);
-            sizeOfImageMapInMB += image.getHeight() * image.getWidth() * 0.000004;
         }
 
         // Fenster-Dekorationen
@@ -1802,6 +2404,7 @@ public final class GameView {
     private static class PaintingPanel extends java.awt.Canvas {
         private final AffineTransform identity;
         private final Statistic statistic;
+        private final Map<BufferedImage, VolatileImage> acceleratedImages;
         private BufferStrategy canvasBufferStrategy;
         private double windowsScaleFactor;
         private double panelScaleFactor;
@@ -1816,6 +2419,7 @@ public final class GameView {
             setIgnoreRepaint(true);
             setSize(GameView.WIDTH, GameView.HEIGHT);
             identity = new AffineTransform();
+            acceleratedImages = new WeakHashMap<>();
         }
 
         private void updateScaleFactor() {
@@ -1848,72 +2452,291 @@ public final class GameView {
             } while (canvasBufferStrategy.contentsLost());
         }
 
+        private BufferedImage createCompatibleImage(int width, int height) {
+            GraphicsConfiguration graphicsConfiguration = getGraphicsConfiguration();
+            if (graphicsConfiguration == null) {
+                return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+            }
+            return graphicsConfiguration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+
+        /**
+         * Große Bilder, die in jedem Bild gezeichnet werden, z.B. die Seiten des Sprite-Atlas, werden zusätzlich als
+         * VolatileImage im Speicher der Grafikkarte gehalten. Gehen dessen Inhalte verloren, wird es beim nächsten
+         * Zeichnen aus dem BufferedImage wiederhergestellt. Wird das BufferedImage verändert, muss diese Methode erneut
+         * aufgerufen werden.
+         *
+         * @param image Das Bild, das beschleunigt gezeichnet werden soll.
+         */
+        private void accelerate(BufferedImage image) {
+            VolatileImage volatileImage = acceleratedImages.put(image, null);
+            if (volatileImage != null) {
+                volatileImage.flush();
+            }
+        }
+
+        private void decelerate(BufferedImage image) {
+            VolatileImage volatileImage = acceleratedImages.remove(image);
+            if (volatileImage != null) {
+                volatileImage.flush();
+            }
+        }
+
+        private Image acceleratedVersionOf(BufferedImage image) {
+            if (!acceleratedImages.containsKey(image)) {
+                return image;
+            }
+            GraphicsConfiguration graphicsConfiguration = getGraphicsConfiguration();
+            if (graphicsConfiguration == null) {
+                return image;
+            }
+            VolatileImage volatileImage = acceleratedImages.get(image);
+            int state = volatileImage == null ? VolatileImage.IMAGE_INCOMPATIBLE
+                    : volatileImage.validate(graphicsConfiguration);
+            if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (volatileImage != null) {
+                    volatileImage.flush();
+                }
+                volatileImage = graphicsConfiguration.createCompatibleVolatileImage(
+                        image.getWidth(), image.getHeight(), Transparency.TRANSLUCENT);
+                acceleratedImages.put(image, volatileImage);
+            }
+            if (state != VolatileImage.IMAGE_OK) {
+                Graphics2D graphics2D = volatileImage.createGraphics();
+                graphics2D.setComposite(AlphaComposite.Src);
+                graphics2D.drawImage(image, 0, 0, null);
+                graphics2D.dispose();
+            }
+            return volatileImage.contentsLost() ? image : volatileImage;
+        }
+
         private void draw(Graphics2D graphics2D, ArrayList<PrintObject> printObjects, Color backgroundColor) {
-            graphics2D.setColor(backgroundColor);
+            statistic.graphicsStateChanges =
+                    draw(graphics2D, printObjects, backgroundColor, identity, scaledTransform, true);
+        }
+
+        /**
+         * Die PrintObjects werden in Gruppen gezeichnet. In einer Gruppe überlappt sich kein PrintObject mit einem
+         * anderen, deshalb kann die Gruppe nach Transformation, Bild, Farbe und Linienstärke sortiert werden, ohne dass
+         * sich das Ergebnis ändert. Überlappen sich zwei PrintObjects, bleibt ihre Reihenfolge erhalten.
+         *
+         * @return Anzahl der Zustandswechsel des Graphics2D-Objekts.
+         */
+        private int draw(Graphics2D graphics2D, ArrayList<PrintObject> printObjects, Color backgroundColor,
+                         AffineTransform imageTransform, AffineTransform shapeTransform, boolean accelerated) {
+            GraphicsState state = new GraphicsState(graphics2D, shapeTransform);
+            state.setColor(backgroundColor);
             graphics2D.fillRect(0, 0, GameView.WIDTH, GameView.HEIGHT);
+            DrawBatch batch = new DrawBatch();
             for (PrintObject p : printObjects) {
-                graphics2D.setColor(p.color);
-                switch (p.type) {
-                    case OVAL -> {
-                        Oval oval = (Oval) p;
-                        int x = oval.x - oval.width / 2;
-                        int y = oval.y - oval.height / 2;
-                        if (oval.filled) {
-                            graphics2D.fillOval(x, y, oval.width + oval.lineWeight, oval.height + oval.lineWeight);
-                        } else {
-                            graphics2D.setStroke(new BasicStroke(oval.lineWeight));
-                            graphics2D.drawOval(
-                                    x + oval.lineWeight / 2, y + oval.lineWeight / 2, oval.width, oval.height);
-                        }
-                    }
-                    case LINE -> {
-                        Line line = (Line) p;
-                        graphics2D.setStroke(new BasicStroke(line.lineWeight));
-                        graphics2D.drawLine(line.x, line.y, line.xEnd, line.yEnd);
-                    }
-                    case RECTANGLE -> {
-                        Rectangle rectangle = (Rectangle) p;
-                        if (rectangle.filled) {
-                            graphics2D.fillRect(rectangle.x, rectangle.y,
-                                    rectangle.width + rectangle.lineWeight, rectangle.height + rectangle.lineWeight);
-                        } else {
-                            graphics2D.setStroke(new BasicStroke(rectangle.lineWeight));
-                            graphics2D.drawRect(
-                                    rectangle.x + rectangle.lineWeight / 2,
-                                    rectangle.y + rectangle.lineWeight / 2, rectangle.width, rectangle.height);
-                        }
-                    }
-                    case POLYGON -> {
-                        Polygon polygon = (Polygon) p;
-                        if (polygon.filled) {
-                            graphics2D.fillPolygon(polygon.xCoordinates, polygon.yCoordinates, polygon.xCoordinates.length);
-                        } else {
-                            graphics2D.setStroke(new BasicStroke(polygon.lineWeight));
-                            graphics2D.drawPolygon(polygon.xCoordinates, polygon.yCoordinates, polygon.xCoordinates.length);
-                        }
+                AffineTransform transform =
+                        p.type == PrintObject.PrintType.IMAGE_OBJECT ? imageTransform : shapeTransform;
+                if (!batch.add(p, transform)) {
+                    drawBatch(state, batch, imageTransform, shapeTransform, accelerated);
+                    batch.add(p, transform);
+                }
+            }
+            drawBatch(state, batch, imageTransform, shapeTransform, accelerated);
+            return state.changes;
+        }
+
+        private void drawBatch(GraphicsState state, DrawBatch batch, AffineTransform imageTransform,
+                               AffineTransform shapeTransform, boolean accelerated) {
+            batch.sortByGraphicsState();
+            for (PrintObject p : batch.printObjects) {
+                if (p.type == PrintObject.PrintType.IMAGE_OBJECT) {
+                    drawImageObject(state, (ImageObject) p, imageTransform, accelerated);
+                } else {
+                    state.setTransform(shapeTransform);
+                    state.setColor(p.color);
+                    drawShape(state, p);
+                }
+            }
+            batch.clear();
+        }
+
+        private void drawShape(GraphicsState state, PrintObject p) {
+            Graphics2D graphics2D = state.graphics2D;
+            switch (p.type) {
+                case OVAL -> {
+                    Oval oval = (Oval) p;
+                    int x = oval.x - oval.width / 2;
+                    int y = oval.y - oval.height / 2;
+                    if (oval.filled) {
+                        graphics2D.fillOval(x, y, oval.width + oval.lineWeight, oval.height + oval.lineWeight);
+                    } else {
+                        state.setLineWeight(oval.lineWeight);
+                        graphics2D.drawOval(x + oval.lineWeight / 2, y + oval.lineWeight / 2, oval.width, oval.height);
                     }
-                    case POLYLINE -> {
-                        PolyLine polyLine = (PolyLine) p;
-                        graphics2D.setStroke(new BasicStroke(polyLine.lineWeight));
-                        graphics2D.drawPolyline(polyLine.xCoordinates, polyLine.yCoordinates, polyLine.xCoordinates.length);
+                }
+                case LINE -> {
+                    Line line = (Line) p;
+                    state.setLineWeight(line.lineWeight);
+                    graphics2D.drawLine(line.x, line.y, line.xEnd, line.yEnd);
+                }
+                case RECTANGLE -> {
+                    Rectangle rectangle = (Rectangle) p;
+                    if (rectangle.filled) {
+                        graphics2D.fillRect(rectangle.x, rectangle.y,
+                                rectangle.width + rectangle.lineWeight, rectangle.height + rectangle.lineWeight);
+                    } else {
+                        state.setLineWeight(rectangle.lineWeight);
+                        graphics2D.drawRect(
+                                rectangle.x + rectangle.lineWeight / 2,
+                                rectangle.y + rectangle.lineWeight / 2, rectangle.width, rectangle.height);
                     }
-                    case IMAGE_OBJECT -> {
-                        ImageObject imageObject = (ImageObject) p;
-                        graphics2D.setTransform(identity);
-                        if (imageObject.rotation != 0) {
-                            AffineTransform rotationTransform = graphics2D.getTransform();
-                            graphics2D.translate(imageObject.x, imageObject.y);
-                            rotationTransform.rotate(Math.toRadians(imageObject.rotation),
-                                    imageObject.image.getWidth() / 2.0, imageObject.image.getHeight() / 2.0);
-                            graphics2D.drawImage(imageObject.image, rotationTransform, null);
-                        } else {
-                            graphics2D.drawImage(imageObject.image, imageObject.x, imageObject.y, null);
-                        }
-                        graphics2D.setTransform(scaledTransform);
+                }
+                case POLYGON -> {
+                    Polygon polygon = (Polygon) p;
+                    if (polygon.filled) {
+                        graphics2D.fillPolygon(polygon.xCoordinates, polygon.yCoordinates, polygon.xCoordinates.length);
+                    } else {
+                        state.setLineWeight(polygon.lineWeight);
+                        graphics2D.drawPolygon(polygon.xCoordinates, polygon.yCoordinates, polygon.xCoordinates.length);
                     }
                 }
+                case POLYLINE -> {
+                    PolyLine polyLine = (PolyLine) p;
+                    state.setLineWeight(polyLine.lineWeight);
+                    graphics2D.drawPolyline(polyLine.xCoordinates, polyLine.yCoordinates, polyLine.xCoordinates.length);
+                }
+                default -> throw new IllegalArgumentException("Unknown shape: " + p.type);
             }
         }
+
+        private void drawImageObject(GraphicsState state, ImageObject imageObject, AffineTransform imageTransform,
+                                     boolean accelerated) {
+            state.setTransform(imageTransform);
+            int x = imageObject.x;
+            int y = imageObject.y;
+            if (imageObject.rotation != 0) {
+                state.rotate(x, y, imageObject.rotation, imageObject.width / 2.0, imageObject.height / 2.0);
+                x = 0;
+                y = 0;
+            }
+            Image image = accelerated ? acceleratedVersionOf(imageObject.image) : imageObject.image;
+            state.graphics2D.drawImage(image, x, y, x + imageObject.width, y + imageObject.height,
+                    imageObject.sourceX, imageObject.sourceY, imageObject.sourceX + imageObject.width,
+                    imageObject.sourceY + imageObject.height, null);
+        }
+    }
+
+    /**
+     * Merkt sich den Zustand eines Graphics2D-Objekts, damit Farbe, Linienstärke und Transformation nur gesetzt werden,
+     * wenn sie sich ändern. Die Linien werden für kleine Linienstärken nur einmal erzeugt.
+     */
+    private static class GraphicsState {
+        private static final BasicStroke[] STROKES = new BasicStroke[16];
+        private final Graphics2D graphics2D;
+        private AffineTransform transform;
+        private Color color;
+        private int lineWeight;
+        private int changes;
+
+        private GraphicsState(Graphics2D graphics2D, AffineTransform transform) {
+            this.graphics2D = graphics2D;
+            this.transform = transform;
+            this.lineWeight = -1;
+        }
+
+        private void setTransform(AffineTransform transform) {
+            if (this.transform != transform) {
+                graphics2D.setTransform(transform);
+                this.transform = transform;
+                changes++;
+            }
+        }
+
+        private void rotate(int x, int y, double rotation, double anchorX, double anchorY) {
+            graphics2D.translate(x, y);
+            graphics2D.rotate(Math.toRadians(rotation), anchorX, anchorY);
+            transform = null;
+            changes++;
+        }
+
+        private void setColor(Color color) {
+            if (!color.equals(this.color)) {
+                graphics2D.setColor(color);
+                this.color = color;
+                changes++;
+            }
+        }
+
+        private void setLineWeight(int lineWeight) {
+            if (this.lineWeight != lineWeight) {
+                graphics2D.setStroke(strokeOf(lineWeight));
+                this.lineWeight = lineWeight;
+                changes++;
+            }
+        }
+
+        private static BasicStroke strokeOf(int lineWeight) {
+            if (lineWeight >= STROKES.length) {
+                return new BasicStroke(lineWeight);
+            }
+            BasicStroke stroke = STROKES[lineWeight];
+            if (stroke == null) {
+                stroke = new BasicStroke(lineWeight);
+                STROKES[lineWeight] = stroke;
+            }
+            return stroke;
+        }
+    }
+
+    /**
+     * Eine Gruppe von PrintObjects, die sich nicht überlappen. Die Flächen werden in Pixeln des Ziels verglichen, weil
+     * Bilder und Formen mit unterschiedlichen Transformationen gezeichnet werden.
+     */
+    private static class DrawBatch {
+        private static final int MAXIMAL_SIZE = 32;
+        private static final Comparator<PrintObject> BY_GRAPHICS_STATE = Comparator
+                .comparingInt((PrintObject p) -> p.type == PrintObject.PrintType.IMAGE_OBJECT ? 1 : 0)
+                .thenComparingInt(PrintObject::graphicsStateKey);
+        private final ArrayList<PrintObject> printObjects;
+        private final int[] lefts;
+        private final int[] tops;
+        private final int[] rights;
+        private final int[] bottoms;
+
+        private DrawBatch() {
+            printObjects = new ArrayList<>(MAXIMAL_SIZE);
+            lefts = new int[MAXIMAL_SIZE];
+            tops = new int[MAXIMAL_SIZE];
+            rights = new int[MAXIMAL_SIZE];
+            bottoms = new int[MAXIMAL_SIZE];
+        }
+
+        private boolean add(PrintObject printObject, AffineTransform transform) {
+            int size = printObjects.size();
+            if (size == MAXIMAL_SIZE) {
+                return false;
+            }
+            int left = (int) Math.floor(printObject.left * transform.getScaleX() + transform.getTranslateX());
+            int top = (int) Math.floor(printObject.top * transform.getScaleY() + transform.getTranslateY());
+            int right = (int) Math.ceil(printObject.right * transform.getScaleX() + transform.getTranslateX());
+            int bottom = (int) Math.ceil(printObject.bottom * transform.getScaleY() + transform.getTranslateY());
+            for (int index = 0; index < size; index++) {
+                if (left < rights[index] && lefts[index] < right && top < bottoms[index] && tops[index] < bottom) {
+                    return false;
+                }
+            }
+            lefts[size] = left;
+            tops[size] = top;
+            rights[size] = right;
+            bottoms[size] = bottom;
+            printObjects.add(printObject);
+            return true;
+        }
+
+        private void sortByGraphicsState() {
+            if (printObjects.size() > 1) {
+                printObjects.sort(BY_GRAPHICS_STATE);
+            }
+        }
+
+        private void clear() {
+            printObjects.clear();
+        }
     }
 
     private static class Tools {
@@ -1931,11 +2754,11 @@ public final class GameView {
 
     private static class Timer {
         private final long startTimeInMilliseconds;
-        private final HashMap<Integer, Long> timers;
+        private final HashMap<Integer, HashMap<Integer, Long>> timersOfObjects;
 
         private Timer() {
             startTimeInMilliseconds = System.currentTimeMillis();
-            timers = new HashMap<>(200);
+            timersOfObjects = new HashMap<>(200);
         }
 
         private int gameTimeInMilliseconds() {
@@ -1943,16 +2766,18 @@ public final class GameView {
         }
 
         private boolean timer(int millisecondsFalse, int millisecondsTrue, Object id) {
-            int hash = Thread.currentThread().getStackTrace()[3].getLineNumber() + System.identityHashCode(id);
-            Long dueTime = timers.get(hash);
+            int lineNumber = Thread.currentThread().getStackTrace()[3].getLineNumber();
+            HashMap<Integer, Long> timers = timersOfObjects.computeIfAbsent(System.identityHashCode(id),
+                    objectHash -> new HashMap<>(4));
+            Long dueTime = timers.get(lineNumber);
             if (dueTime == null) {
-                timers.put(hash, System.currentTimeMillis() + millisecondsFalse);
+                timers.put(lineNumber, System.currentTimeMillis() + millisecondsFalse);
                 return false;
             } else {
                 long currentTime = System.currentTimeMillis();
                 if (currentTime >= dueTime) {
                     if (currentTime >= dueTime + millisecondsTrue) {
-                        timers.remove(hash);
+                        timers.remove(lineNumber);
                     }
                     return true;
                 } else {
@@ -1962,14 +2787,11 @@ public final class GameView {
         }
 
         private void resetTimers(Object id) {
-            int objectHash = System.identityHashCode(id);
-            for (int i = 0; i < 2000; i++) {
-                timers.remove(objectHash + i);
-            }
+            timersOfObjects.remove(System.identityHashCode(id));
         }
 
         private void resetAllTimers() {
-            timers.clear();
+            timersOfObjects.clear();
         }
     }
 
@@ -2155,9 +2977,12 @@ public final class GameView {
         private boolean showStatistics;
         private int framesCounter;
         private int invisiblePrintObjects;
+        private int graphicsStateChanges;
+        private final Map<String, Integer> gameValues;
 
         private Statistic() {
             statisticBox = new StatisticBox();
+            gameValues = new LinkedHashMap<>();
         }
 
         private void updateStatistic() {
@@ -2178,10 +3003,20 @@ public final class GameView {
                 statisticBox.gameValue = (int) Math.max(1, gameLogicAverageDuration);
 
                 // PrintObjects
-                int numberOfStatisticObjects = 35; // SimpleStartScreen has 8 PrintObjects
+                int numberOfStatisticObjects = 40; // SimpleStartScreen has 8 PrintObjects
+                if (!statisticBox.gameValues.isEmpty()) {
+                    numberOfStatisticObjects += 3 + 2 * statisticBox.gameValues.size();
+                }
                 statisticBox.visibleValue = Math.max(0, canvas.printObjects.size() - numberOfStatisticObjects);
                 statisticBox.invisibleValue = invisiblePrintObjects;
 
+                // Graphics state
+                statisticBox.stateChangesValue = graphicsStateChanges;
+
+                // Game
+                statisticBox.gameValues.clear();
+                statisticBox.gameValues.putAll(gameValues);
+
                 // Image buffer
                 statisticBox.bufferSizeValue = (int) swingAdapter.sizeOfImageMapInMB;
                 statisticBox.bufferOverflowValue = swingAdapter.imageMapRefreshCounter;
@@ -2235,6 +3070,8 @@ public final class GameView {
         private int gameValue;
         private int visibleValue;
         private int invisibleValue;
+        private int stateChangesValue;
+        private final Map<String, Integer> gameValues;
         private int bufferSizeValue;
         private int bufferOverflowValue;
 
@@ -2245,6 +3082,7 @@ public final class GameView {
             gameViewValue = 1;
             graphicValue = 1;
             gameValue = 1;
+            gameValues = new LinkedHashMap<>();
         }
 
         private void paintStatisticBox() {
@@ -2257,9 +3095,20 @@ public final class GameView {
             addBox(new Title("Spiel-Objekte"),
                     new Line("Sichtbar:", visibleValue, null, true, 200, 300),
                     new Line("Unsichtbar:", invisibleValue, null, true, 100, 200));
+            addBox(new Title("Grafik-Zustand"),
+                    new Line("Wechsel/Bild:", stateChangesValue, null, true, 300, 600));
             addBox(new Title("Bildpuffer"),
                     new Line("Größe:", bufferSizeValue, "MB", true, 750, 900),
                     new Line("Überläufe:", bufferOverflowValue, null, true, 1, 2));
+            if (!gameValues.isEmpty()) {
+                Line[] lines = new Line[gameValues.size()];
+                int index = 0;
+                for (Map.Entry<String, Integer> gameValue : gameValues.entrySet()) {
+                    lines[index++] = new Line(gameValue.getKey(), gameValue.getValue(), null, true, Integer.MAX_VALUE,
+                            Integer.MAX_VALUE);
+                }
+                addBox(new Title("Spiel"), lines);
+            }
         }
 
         private void addBox(Title title, Line... lines) {
@@ -2386,6 +3235,44 @@ public final class GameView {
         }
     }
 
+    /**
+     * Eine Block-Grafik, die einmal aus einem farbcodierten <code>String</code> übersetzt wurde, siehe
+     * {@link #addBlockImageToCanvas(String, double, double, double, double)}. Die Blöcke werden als Raster von
+     * Zeichen gespeichert, die erst beim Zeichnen über die Farbpalette in Farben übersetzt werden. Das gezeichnete Bild
+     * wird in der Block-Grafik selbst zwischengespeichert, solange sich Blockgröße, Fenstergröße und Farbpalette
+     * nicht ändern. Eine Block-Grafik sollte deshalb nur einmal erzeugt werden, z.B. als Konstante.
+     */
+    public static final class BlockImage {
+        private final byte[] blocks;
+        private final int columns;
+        private final int rows;
+        private BufferedImage image;
+        private int blockSize;
+        private int scaleFactorHash;
+        private int colorMapVersion;
+
+        /**
+         * Übersetzt die Block-Grafik.
+         *
+         * @param blockImage Das Bild als farbcodierter String.
+         */
+        public BlockImage(String blockImage) {
+            String[] lines = blockImage.split("\\R");
+            rows = Math.max(lines.length, 1);
+            columns = Math.max(Arrays.stream(lines).mapToInt(String::length).max().orElse(1), 1);
+            blocks = new byte[rows * columns];
+            for (int row = 0; row < lines.length; row++) {
+                for (int column = 0; column < lines[row].length(); column++) {
+                    char block = lines[row].charAt(column);
+                    if (block > Byte.MAX_VALUE) {
+                        throw new IllegalArgumentException("Es sind nur ASCII-Zeichen erlaubt: " + block);
+                    }
+                    blocks[row * columns + column] = (byte) block;
+                }
+            }
+        }
+    }
+
     /**
      * Diese innere Klasse liefert eine Testumgebung für automatisierte Tests.
      */
@@ -0,0 +1,85 @@
+package thd.game.utilities;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares how fast sprites of different image types are drawn onto a frame of the size of the {@link GameView}.
+ * Every sprite has a transparent border and an opaque center, like the images in the resources. In a headless
+ * environment only the {@link BufferedImage} types are compared, with a screen the compatible images of the screen's
+ * graphics configuration and a {@link VolatileImage} are measured as well. The frame is a compatible image, if there
+ * is a screen, so the same blit loops are used as for the window.
+ */
+public class ImageBlitBenchmark {
+    private static final int SPRITE_SIZE = 96;
+    private static final int SPRITES_PER_FRAME = 400;
+    private static final int WARM_UP_FRAMES = 200;
+    private static final int MEASURED_FRAMES = 1_000;
+
+    /**
+     * Runs the benchmark and prints the number of sprites drawn per millisecond for every image type.
+     *
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        GraphicsConfiguration graphicsConfiguration = GraphicsEnvironment.isHeadless() ? null
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        Map<String, Image> sprites = new LinkedHashMap<>();
+        sprites.put("TYPE_INT_ARGB", createSprite(new BufferedImage(SPRITE_SIZE, SPRITE_SIZE,
+                BufferedImage.TYPE_INT_ARGB)));
+        sprites.put("TYPE_INT_ARGB_PRE", createSprite(new BufferedImage(SPRITE_SIZE, SPRITE_SIZE,
+                BufferedImage.TYPE_INT_ARGB_PRE)));
+        sprites.put("TYPE_4BYTE_ABGR", createSprite(new BufferedImage(SPRITE_SIZE, SPRITE_SIZE,
+                BufferedImage.TYPE_4BYTE_ABGR)));
+        BufferedImage frame;
+        if (graphicsConfiguration == null) {
+            frame = new BufferedImage(GameView.WIDTH, GameView.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        } else {
+            frame = graphicsConfiguration.createCompatibleImage(GameView.WIDTH, GameView.HEIGHT);
+            sprites.put("compatible", createSprite(graphicsConfiguration.createCompatibleImage(
+                    SPRITE_SIZE, SPRITE_SIZE, Transparency.TRANSLUCENT)));
+            VolatileImage volatileImage = graphicsConfiguration.createCompatibleVolatileImage(
+                    SPRITE_SIZE, SPRITE_SIZE, Transparency.TRANSLUCENT);
+            Graphics2D graphics2D = volatileImage.createGraphics();
+            graphics2D.setComposite(AlphaComposite.Src);
+            graphics2D.drawImage(sprites.get("compatible"), 0, 0, null);
+            graphics2D.dispose();
+            sprites.put("volatile", volatileImage);
+        }
+        System.out.println(graphicsConfiguration == null ? "Headless, frame is TYPE_INT_RGB" : "Frame is compatible");
+        for (Map.Entry<String, Image> sprite : sprites.entrySet()) {
+            drawFrames(frame, sprite.getValue(), WARM_UP_FRAMES);
+            long startTime = System.nanoTime();
+            drawFrames(frame, sprite.getValue(), MEASURED_FRAMES);
+            long time = System.nanoTime() - startTime;
+            double spritesPerMillisecond = (double) MEASURED_FRAMES * SPRITES_PER_FRAME / (time / 1_000_000.0);
+            System.out.printf("%-18s %10.1f sprites per ms%n", sprite.getKey(), spritesPerMillisecond);
+        }
+    }
+
+    private static BufferedImage createSprite(BufferedImage image) {
+        Graphics2D graphics2D = image.createGraphics();
+        graphics2D.setComposite(AlphaComposite.Src);
+        graphics2D.setColor(new Color(0, 0, 0, 0));
+        graphics2D.fillRect(0, 0, SPRITE_SIZE, SPRITE_SIZE);
+        graphics2D.setColor(Color.GREEN.darker());
+        graphics2D.fillOval(SPRITE_SIZE / 8, SPRITE_SIZE / 8, SPRITE_SIZE * 3 / 4, SPRITE_SIZE * 3 / 4);
+        graphics2D.dispose();
+        return image;
+    }
+
+    private static void drawFrames(BufferedImage frame, Image sprite, int frames) {
+        Graphics2D graphics2D = frame.createGraphics();
+        for (int currentFrame = 0; currentFrame < frames; currentFrame++) {
+            for (int index = 0; index < SPRITES_PER_FRAME; index++) {
+                int x = (index * 37 + currentFrame) % (GameView.WIDTH - SPRITE_SIZE);
+                int y = (index * 53) % (GameView.HEIGHT - SPRITE_SIZE);
+                graphics2D.drawImage(sprite, x, y, null);
+            }
+        }
+        graphics2D.dispose();
+    }
+}
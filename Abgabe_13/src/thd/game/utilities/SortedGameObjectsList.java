@@ -1,25 +0,0 @@
-package thd.game.utilities;
-
-import thd.gameobjects.base.GameObject;
-
-import java.util.LinkedList;
-
-/**
- * A customized list implementation that maintains a sorted list of {@link GameObject}'s,
- * based on their distance to the background.
- */
-public class SortedGameObjectsList extends LinkedList<GameObject> {
-
-    @Override
-    public boolean add(GameObject toAdd) {
-        int indexToSortIn = 0;
-        for (GameObject gameObject : this) {
-            if (gameObject.getDistanceToBackground() >= toAdd.getDistanceToBackground()) {
-                break;
-            }
-            indexToSortIn++;
-        }
-        super.add(indexToSortIn, toAdd);
-        return true;
-    }
-}
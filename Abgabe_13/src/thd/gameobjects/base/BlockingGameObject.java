@@ -0,0 +1,7 @@
+package thd.gameobjects.base;
+
+/**
+ * An interface for all game objects, which block the path of the jet fighter.
+ */
+public interface BlockingGameObject {
+}
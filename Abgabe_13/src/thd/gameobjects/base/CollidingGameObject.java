@@ -9,7 +9,16 @@ import java.awt.*;
  * Game objects that are able to collide with other game objects.
  */
 public abstract class CollidingGameObject extends GameObject {
+    private static final double MAXIMUM_SWEEP_DISTANCE = 100;
     private final Rectangle hitBoxRectangle;
+    private final Rectangle previousHitBoxRectangle;
+    private final Rectangle sweptHitBoxRectangle;
+    private HitBoxShape hitBoxShape;
+    private SpriteMask spriteMask;
+    private int spriteMaskX;
+    private int spriteMaskY;
+    private boolean previousHitBoxAvailable;
+    private boolean fastMoving;
     private double hitBoxOffsetX;
     private double hitBoxOffsetY;
     private double hitBoxOffsetWidth;
@@ -24,11 +33,14 @@ public abstract class CollidingGameObject extends GameObject {
     public CollidingGameObject(GameView gameView, GamePlayManager gamePlayManager) {
         super(gameView, gamePlayManager);
         hitBoxRectangle = new Rectangle(0, 0, 0, 0);
+        previousHitBoxRectangle = new Rectangle(0, 0, 0, 0);
+        sweptHitBoxRectangle = new Rectangle(0, 0, 0, 0);
     }
 
     /**
      * Determines if this game object currently collides with the other game object. Both hitboxes are updated before
-     * detection.
+     * detection. If one of the hitboxes has an exact shape or is pixel-perfect, the exact hitboxes are only compared if
+     * the rectangular bounds of both hitboxes intersect.
      *
      * @param other The other game object.
      * @return <code>true</code> if the there was a collision.
@@ -36,10 +48,190 @@ public abstract class CollidingGameObject extends GameObject {
     public final boolean collidesWith(CollidingGameObject other) {
         updateHitBox();
         other.updateHitBox();
-        return hitBoxRectangle.intersects(other.hitBoxRectangle);
+        if (!hitBoxRectangle.intersects(other.hitBoxRectangle)) {
+            return false;
+        }
+        if (spriteMask != null && other.spriteMask != null) {
+            return spriteMask.overlaps(spriteMaskX, spriteMaskY, other.spriteMask, other.spriteMaskX, other.spriteMaskY);
+        }
+        if (hitBoxShape != null && other.hitBoxShape != null) {
+            return hitBoxShape.intersects(other.hitBoxShape);
+        }
+        return exactlyIntersects(other.hitBoxRectangle) && other.exactlyIntersects(hitBoxRectangle);
+    }
+
+    private boolean exactlyIntersects(Rectangle area) {
+        if (spriteMask != null) {
+            return spriteMask.overlaps(spriteMaskX, spriteMaskY, area);
+        }
+        return hitBoxShape == null || hitBoxShape.intersects(area);
+    }
+
+    /**
+     * Determines if the hitbox of this game object currently intersects the given area. The hitbox is updated before
+     * detection.
+     *
+     * @param area The area to check, e.g. the hitbox of another game object.
+     * @return <code>true</code> if the hitbox intersects the area.
+     */
+    public final boolean collidesWith(Rectangle area) {
+        updateHitBox();
+        return hitBoxRectangle.intersects(area) && exactlyIntersects(area);
+    }
+
+    /**
+     * Determines if this game object collided with the other game object at any time since the hitboxes were stored
+     * the last time. If none of both game objects is fast moving, this is the same as
+     * {@link #collidesWith(CollidingGameObject)}. Otherwise, the movement of both hitboxes since they were stored is
+     * swept, so that fast game objects can not pass through thin game objects within a single frame. The exact hitbox of
+     * the other game object is checked against the whole area the fast game object covered.
+     *
+     * @param other The other game object.
+     * @return <code>true</code> if the there was a collision.
+     * @see #storeHitBoxForSweptCollision()
+     */
+    public final boolean sweptCollidesWith(CollidingGameObject other) {
+        if (collidesWith(other)) {
+            return true;
+        }
+        if (!(fastMoving || other.fastMoving) || !previousHitBoxAvailable || !other.previousHitBoxAvailable) {
+            return false;
+        }
+        if (!sweptHitBoxesIntersect(other)) {
+            return false;
+        }
+        CollidingGameObject fastGameObject = fastMoving ? this : other;
+        CollidingGameObject otherGameObject = fastGameObject == this ? other : this;
+        fastGameObject.sweptHitBoxRectangle.setBounds(fastGameObject.hitBoxRectangle);
+        fastGameObject.sweptHitBoxRectangle.add(fastGameObject.previousHitBoxRectangle);
+        return otherGameObject.exactlyIntersects(fastGameObject.sweptHitBoxRectangle);
+    }
+
+    private boolean sweptHitBoxesIntersect(CollidingGameObject other) {
+        if (hitBoxRectangle.isEmpty() || other.hitBoxRectangle.isEmpty()) {
+            return false;
+        }
+        double movementX = hitBoxRectangle.x - previousHitBoxRectangle.x;
+        double movementY = hitBoxRectangle.y - previousHitBoxRectangle.y;
+        double otherMovementX = other.hitBoxRectangle.x - other.previousHitBoxRectangle.x;
+        double otherMovementY = other.hitBoxRectangle.y - other.previousHitBoxRectangle.y;
+        if (Math.hypot(movementX, movementY) > MAXIMUM_SWEEP_DISTANCE
+                || Math.hypot(otherMovementX, otherMovementY) > MAXIMUM_SWEEP_DISTANCE) {
+            return false;
+        }
+        double relativeMovementX = movementX - otherMovementX;
+        double relativeMovementY = movementY - otherMovementY;
+        double startX = hitBoxRectangle.x - relativeMovementX;
+        double startY = hitBoxRectangle.y - relativeMovementY;
+        double minimumX = other.hitBoxRectangle.x - hitBoxRectangle.width;
+        double maximumX = other.hitBoxRectangle.x + other.hitBoxRectangle.width;
+        double minimumY = other.hitBoxRectangle.y - hitBoxRectangle.height;
+        double maximumY = other.hitBoxRectangle.y + other.hitBoxRectangle.height;
+        double entry = Math.max(0, Math.max(
+                slabEntry(startX, relativeMovementX, minimumX, maximumX),
+                slabEntry(startY, relativeMovementY, minimumY, maximumY)));
+        double exit = Math.min(1, Math.min(
+                slabExit(startX, relativeMovementX, minimumX, maximumX),
+                slabExit(startY, relativeMovementY, minimumY, maximumY)));
+        return entry < exit;
+    }
+
+    private static double slabEntry(double start, double movement, double minimum, double maximum) {
+        if (movement == 0) {
+            return start > minimum && start < maximum ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return Math.min((minimum - start) / movement, (maximum - start) / movement);
+    }
+
+    private static double slabExit(double start, double movement, double minimum, double maximum) {
+        if (movement == 0) {
+            return start > minimum && start < maximum ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return Math.max((minimum - start) / movement, (maximum - start) / movement);
+    }
+
+    /**
+     * Returns the smallest y-coordinate of the area that the hitbox covered since it was stored the last time. For game
+     * objects that are not fast moving, this is the upper edge of the current hitbox.
+     *
+     * @return Smallest y-coordinate of the covered area.
+     */
+    public final int sweptHitBoxMinimumY() {
+        updateHitBox();
+        if (fastMoving && previousHitBoxAvailable) {
+            return Math.min(hitBoxRectangle.y, previousHitBoxRectangle.y);
+        }
+        return hitBoxRectangle.y;
+    }
+
+    /**
+     * Returns the largest y-coordinate of the area that the hitbox covered since it was stored the last time. For game
+     * objects that are not fast moving, this is the lower edge of the current hitbox.
+     *
+     * @return Largest y-coordinate of the covered area.
+     */
+    public final int sweptHitBoxMaximumY() {
+        updateHitBox();
+        if (fastMoving && previousHitBoxAvailable) {
+            return Math.max(hitBoxRectangle.y + hitBoxRectangle.height,
+                    previousHitBoxRectangle.y + previousHitBoxRectangle.height);
+        }
+        return hitBoxRectangle.y + hitBoxRectangle.height;
+    }
+
+    /**
+     * Stores the current hitbox as start of the movement that is swept by
+     * {@link #sweptCollidesWith(CollidingGameObject)}.
+     */
+    public final void storeHitBoxForSweptCollision() {
+        updateHitBox();
+        previousHitBoxRectangle.setBounds(hitBoxRectangle);
+        previousHitBoxAvailable = true;
+    }
+
+    /**
+     * Forgets the stored hitbox, so that the next collision detection only uses the current hitbox. This is needed
+     * when a game object is (re-)added to the game.
+     */
+    public final void resetSweptCollision() {
+        previousHitBoxAvailable = false;
+    }
+
+    /**
+     * Marks this game object as fast moving. Collisions of fast moving game objects are detected along their whole
+     * movement in a frame, not only at their current position.
+     */
+    protected void markAsFastMoving() {
+        fastMoving = true;
+    }
+
+    /**
+     * Returns the current hitbox of this game object. The returned rectangle is updated by this game object and must
+     * not be changed.
+     *
+     * @return The current hitbox.
+     */
+    public final Rectangle hitBox() {
+        updateHitBox();
+        return hitBoxRectangle;
     }
 
     private void updateHitBox() {
+        if (spriteMask != null) {
+            spriteMaskX = (int) position.getX();
+            spriteMaskY = (int) position.getY();
+            if (width <= 0 || height <= 0) {
+                hitBoxRectangle.setBounds(spriteMaskX, spriteMaskY, 0, 0);
+            } else {
+                spriteMask.storeOpaqueBoundsIn(spriteMaskX, spriteMaskY, hitBoxRectangle);
+            }
+            return;
+        }
+        if (hitBoxShape != null) {
+            hitBoxShape.moveTo(position);
+            hitBoxShape.storeBoundsIn(hitBoxRectangle);
+            return;
+        }
         hitBoxRectangle.x = (int) (position.getX() + hitBoxOffsetX);
         hitBoxRectangle.y = (int) (position.getY() + hitBoxOffsetY);
         hitBoxRectangle.width = (int) (width + hitBoxOffsetWidth);
@@ -61,6 +253,47 @@ public abstract class CollidingGameObject extends GameObject {
         this.hitBoxOffsetHeight = offsetHeight;
     }
 
+    /**
+     * Replaces the rectangular hitbox by an axis aligned ellipse. The rectangular bounds of the ellipse are still used
+     * to find possible collisions, the ellipse decides if there really is a collision.
+     *
+     * @param centerOffsetX x-coordinate of the center, relative to the game objects' x-coordinate.
+     * @param centerOffsetY y-coordinate of the center, relative to the game objects' y-coordinate.
+     * @param radiusX       Horizontal radius of the ellipse.
+     * @param radiusY       Vertical radius of the ellipse.
+     */
+    protected void hitBoxEllipse(double centerOffsetX, double centerOffsetY, double radiusX, double radiusY) {
+        hitBoxShape = HitBoxShape.ellipse(centerOffsetX, centerOffsetY, radiusX, radiusY);
+        spriteMask = null;
+    }
+
+    /**
+     * Replaces the rectangular hitbox by a convex polygon. The rectangular bounds of the polygon are still used to
+     * find possible collisions, the polygon decides if there really is a collision.
+     *
+     * @param vertexOffsetsX x-coordinates of the vertices in clockwise or counterclockwise order, relative to the game
+     *                       objects' x-coordinate.
+     * @param vertexOffsetsY y-coordinates of the vertices, relative to the game objects' y-coordinate.
+     */
+    protected void hitBoxConvexPolygon(double[] vertexOffsetsX, double[] vertexOffsetsY) {
+        hitBoxShape = HitBoxShape.convexPolygon(vertexOffsetsX, vertexOffsetsY);
+        spriteMask = null;
+    }
+
+    /**
+     * Uses the opaque pixels of an image as hitbox. The image is expected to be shown with its upper left corner at the
+     * position of the game object. The bounds of the opaque pixels are used to find possible collisions, afterwards
+     * the pixels of both game objects are compared. If the game object changes its image, this method has to be called
+     * again; the masks of all images are created only once. A width or height of zero still disables the hitbox.
+     *
+     * @param imageFile        The file name of the image in the resources.
+     * @param imageScaleFactor The scale factor the image is shown with.
+     */
+    protected void pixelPerfectHitBox(String imageFile, double imageScaleFactor) {
+        spriteMask = SpriteMask.of(imageFile, imageScaleFactor);
+        hitBoxShape = null;
+    }
+
     /**
      * If a game object is collided with another game object, it reacts to the collision. This method needs to be
      * overridden by game objects and implemented with appropriate reactions.
@@ -73,7 +306,9 @@ public abstract class CollidingGameObject extends GameObject {
      * Shows hitbox of this game object as a red rectangle.
      */
     public void showHitBox() {
-        if (hitBoxRectangle.width > 0 && hitBoxRectangle.height > 0) {
+        if (hitBoxShape != null) {
+            hitBoxShape.show(gameView, Color.RED);
+        } else if (hitBoxRectangle.width > 0 && hitBoxRectangle.height > 0) {
             gameView.addRectangleToCanvas(hitBoxRectangle.x, hitBoxRectangle.y, hitBoxRectangle.width, hitBoxRectangle.height, 2, false, Color.RED);
         }
     }
@@ -20,6 +20,7 @@ public abstract class GameObject {
     protected double height;
     protected final GamePlayManager gamePlayManager;
     protected char distanceToBackground;
+    private int entityId;
 
 
     /**
@@ -99,6 +100,25 @@ public abstract class GameObject {
         return Objects.hash(position, targetPosition, speedInPixel, rotation, size, width, height, distanceToBackground);
     }
 
+    /**
+     * Returns the entity id, under which the game object is managed by the game. The id is 0, if the game object is
+     * not managed at the moment. Ids of game objects that left the game become stale and are not reused as they are.
+     *
+     * @return The entity id of the game object.
+     */
+    public int getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Sets the entity id of the game object. This is only done by the managers of the game.
+     *
+     * @param entityId The new entity id.
+     */
+    public void setEntityId(int entityId) {
+        this.entityId = entityId;
+    }
+
     /**
      * Returns the distance to the background.
      *
@@ -0,0 +1,73 @@
+package thd.gameobjects.base;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Keeps game objects of one type, that were removed from the game, so that they can be reused. New game objects are
+ * only created if the pool is empty.
+ *
+ * @param <T> the type of the pooled game objects.
+ */
+public class GameObjectPool<T extends GameObject & PoolableGameObject> {
+    private final Class<T> type;
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> freeGameObjects;
+    private int numberOfCreatedGameObjects;
+
+    /**
+     * Creates a new, empty pool.
+     *
+     * @param type    The type of the pooled game objects.
+     * @param factory Creates a new game object, if there is none left in the pool.
+     */
+    public GameObjectPool(Class<T> type, Supplier<T> factory) {
+        this.type = type;
+        this.factory = factory;
+        freeGameObjects = new ArrayDeque<>();
+    }
+
+    /**
+     * Takes a game object from the pool or creates a new one, if the pool is empty. The game object is reset before it
+     * is returned.
+     *
+     * @return A game object that is ready to be spawned.
+     */
+    public T obtain() {
+        T gameObject = freeGameObjects.pollLast();
+        if (gameObject == null) {
+            gameObject = factory.get();
+            numberOfCreatedGameObjects++;
+        }
+        gameObject.resetForReuse();
+        return gameObject;
+    }
+
+    /**
+     * Gives a game object back to the pool, after it was removed from the game.
+     *
+     * @param gameObject The game object that is not used anymore.
+     * @throws ClassCastException if the game object does not belong to this pool.
+     */
+    public void release(GameObject gameObject) {
+        freeGameObjects.addLast(type.cast(gameObject));
+    }
+
+    /**
+     * Returns how many game objects were created by this pool so far.
+     *
+     * @return Number of created game objects.
+     */
+    public int getNumberOfCreatedGameObjects() {
+        return numberOfCreatedGameObjects;
+    }
+
+    /**
+     * Returns how many game objects are waiting in the pool to be reused.
+     *
+     * @return Number of free game objects.
+     */
+    public int getNumberOfFreeGameObjects() {
+        return freeGameObjects.size();
+    }
+}
@@ -0,0 +1,235 @@
+package thd.gameobjects.base;
+
+import thd.game.utilities.GameView;
+
+import java.awt.*;
+
+/**
+ * The exact shape of a hitbox, used after the rectangular bounds of two hitboxes overlap. Supported shapes are axis
+ * aligned ellipses and convex polygons. All coordinates are given relative to the position of the game object.
+ */
+final class HitBoxShape {
+    private static final int VERTICES_OF_APPROXIMATED_ELLIPSE = 16;
+
+    private final boolean ellipse;
+    private final double centerOffsetX;
+    private final double centerOffsetY;
+    private final double radiusX;
+    private final double radiusY;
+    private final double[] vertexOffsetsX;
+    private final double[] vertexOffsetsY;
+    private final double[] verticesX;
+    private final double[] verticesY;
+    private final double[] rectangleX;
+    private final double[] rectangleY;
+    private double centerX;
+    private double centerY;
+
+    private HitBoxShape(boolean ellipse, double centerOffsetX, double centerOffsetY, double radiusX, double radiusY,
+                        double[] vertexOffsetsX, double[] vertexOffsetsY) {
+        this.ellipse = ellipse;
+        this.centerOffsetX = centerOffsetX;
+        this.centerOffsetY = centerOffsetY;
+        this.radiusX = radiusX;
+        this.radiusY = radiusY;
+        this.vertexOffsetsX = vertexOffsetsX;
+        this.vertexOffsetsY = vertexOffsetsY;
+        verticesX = new double[vertexOffsetsX.length];
+        verticesY = new double[vertexOffsetsY.length];
+        rectangleX = new double[4];
+        rectangleY = new double[4];
+    }
+
+    /**
+     * Creates an axis aligned ellipse.
+     *
+     * @param centerOffsetX x-coordinate of the center, relative to the game objects' x-coordinate.
+     * @param centerOffsetY y-coordinate of the center, relative to the game objects' y-coordinate.
+     * @param radiusX       Horizontal radius.
+     * @param radiusY       Vertical radius.
+     * @return The new shape.
+     */
+    static HitBoxShape ellipse(double centerOffsetX, double centerOffsetY, double radiusX, double radiusY) {
+        if (radiusX <= 0 || radiusY <= 0) {
+            throw new IllegalArgumentException("The radii of an ellipse must be positive!");
+        }
+        double[] offsetsX = new double[VERTICES_OF_APPROXIMATED_ELLIPSE];
+        double[] offsetsY = new double[VERTICES_OF_APPROXIMATED_ELLIPSE];
+        for (int vertex = 0; vertex < VERTICES_OF_APPROXIMATED_ELLIPSE; vertex++) {
+            double angle = 2 * Math.PI * vertex / VERTICES_OF_APPROXIMATED_ELLIPSE;
+            offsetsX[vertex] = centerOffsetX + radiusX * Math.cos(angle);
+            offsetsY[vertex] = centerOffsetY + radiusY * Math.sin(angle);
+        }
+        return new HitBoxShape(true, centerOffsetX, centerOffsetY, radiusX, radiusY, offsetsX, offsetsY);
+    }
+
+    /**
+     * Creates a convex polygon. The vertices have to be given in clockwise or counterclockwise order.
+     *
+     * @param vertexOffsetsX x-coordinates of the vertices, relative to the game objects' x-coordinate.
+     * @param vertexOffsetsY y-coordinates of the vertices, relative to the game objects' y-coordinate.
+     * @return The new shape.
+     */
+    static HitBoxShape convexPolygon(double[] vertexOffsetsX, double[] vertexOffsetsY) {
+        if (vertexOffsetsX.length < 3 || vertexOffsetsX.length != vertexOffsetsY.length) {
+            throw new IllegalArgumentException("A polygon needs at least three vertices with x- and y-coordinates!");
+        }
+        return new HitBoxShape(false, 0, 0, 0, 0, vertexOffsetsX.clone(), vertexOffsetsY.clone());
+    }
+
+    /**
+     * Moves the shape to the position of its game object.
+     *
+     * @param position Position of the game object.
+     */
+    void moveTo(Position position) {
+        centerX = position.getX() + centerOffsetX;
+        centerY = position.getY() + centerOffsetY;
+        for (int vertex = 0; vertex < verticesX.length; vertex++) {
+            verticesX[vertex] = position.getX() + vertexOffsetsX[vertex];
+            verticesY[vertex] = position.getY() + vertexOffsetsY[vertex];
+        }
+    }
+
+    /**
+     * Stores the smallest rectangle that contains the shape in the given rectangle.
+     *
+     * @param bounds Rectangle to store the bounds in.
+     */
+    void storeBoundsIn(Rectangle bounds) {
+        if (ellipse) {
+            bounds.setBounds((int) (centerX - radiusX), (int) (centerY - radiusY), (int) (2 * radiusX), (int) (2 * radiusY));
+            return;
+        }
+        double minimumX = verticesX[0];
+        double maximumX = verticesX[0];
+        double minimumY = verticesY[0];
+        double maximumY = verticesY[0];
+        for (int vertex = 1; vertex < verticesX.length; vertex++) {
+            minimumX = Math.min(minimumX, verticesX[vertex]);
+            maximumX = Math.max(maximumX, verticesX[vertex]);
+            minimumY = Math.min(minimumY, verticesY[vertex]);
+            maximumY = Math.max(maximumY, verticesY[vertex]);
+        }
+        bounds.setBounds((int) minimumX, (int) minimumY, (int) (maximumX - minimumX), (int) (maximumY - minimumY));
+    }
+
+    /**
+     * Determines if this shape intersects the given rectangle.
+     *
+     * @param rectangle The rectangle, e.g. a hitbox without a shape.
+     * @return <code>true</code> if the shape and the rectangle intersect.
+     */
+    boolean intersects(Rectangle rectangle) {
+        rectangleX[0] = rectangle.x;
+        rectangleY[0] = rectangle.y;
+        rectangleX[1] = rectangle.x + rectangle.width;
+        rectangleY[1] = rectangle.y;
+        rectangleX[2] = rectangle.x + rectangle.width;
+        rectangleY[2] = rectangle.y + rectangle.height;
+        rectangleX[3] = rectangle.x;
+        rectangleY[3] = rectangle.y + rectangle.height;
+        if (ellipse) {
+            return ellipseIntersectsPolygon(rectangleX, rectangleY);
+        }
+        return polygonsIntersect(verticesX, verticesY, rectangleX, rectangleY);
+    }
+
+    /**
+     * Determines if this shape intersects the other shape. Two ellipses are tested with the polygon approximation of
+     * the other ellipse.
+     *
+     * @param other The other shape.
+     * @return <code>true</code> if both shapes intersect.
+     */
+    boolean intersects(HitBoxShape other) {
+        if (ellipse) {
+            return ellipseIntersectsPolygon(other.verticesX, other.verticesY);
+        }
+        if (other.ellipse) {
+            return other.ellipseIntersectsPolygon(verticesX, verticesY);
+        }
+        return polygonsIntersect(verticesX, verticesY, other.verticesX, other.verticesY);
+    }
+
+    /**
+     * Adds the outline of the shape to the canvas.
+     *
+     * @param gameView Window to show the shape on.
+     * @param color    Color of the outline.
+     */
+    void show(GameView gameView, Color color) {
+        if (ellipse) {
+            gameView.addOvalToCanvas(centerX, centerY, 2 * radiusX, 2 * radiusY, 2, false, color);
+        } else {
+            gameView.addPolygonToCanvas(verticesX.clone(), verticesY.clone(), 2, false, color);
+        }
+    }
+
+    private boolean ellipseIntersectsPolygon(double[] polygonX, double[] polygonY) {
+        boolean originInside = true;
+        double orientation = 0;
+        for (int vertex = 0; vertex < polygonX.length; vertex++) {
+            int next = (vertex + 1) % polygonX.length;
+            double startX = (polygonX[vertex] - centerX) / radiusX;
+            double startY = (polygonY[vertex] - centerY) / radiusY;
+            double endX = (polygonX[next] - centerX) / radiusX;
+            double endY = (polygonY[next] - centerY) / radiusY;
+            if (distanceToOriginSquared(startX, startY, endX, endY) < 1) {
+                return true;
+            }
+            double cross = startX * endY - startY * endX;
+            if (cross != 0) {
+                if (orientation == 0) {
+                    orientation = Math.signum(cross);
+                } else if (Math.signum(cross) != orientation) {
+                    originInside = false;
+                }
+            }
+        }
+        return originInside && orientation != 0;
+    }
+
+    private static double distanceToOriginSquared(double startX, double startY, double endX, double endY) {
+        double segmentX = endX - startX;
+        double segmentY = endY - startY;
+        double lengthSquared = segmentX * segmentX + segmentY * segmentY;
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, -(startX * segmentX + startY * segmentY) / lengthSquared));
+        double closestX = startX + t * segmentX;
+        double closestY = startY + t * segmentY;
+        return closestX * closestX + closestY * closestY;
+    }
+
+    private static boolean polygonsIntersect(double[] aX, double[] aY, double[] bX, double[] bY) {
+        return !hasSeparatingEdge(aX, aY, bX, bY) && !hasSeparatingEdge(bX, bY, aX, aY);
+    }
+
+    private static boolean hasSeparatingEdge(double[] edgesX, double[] edgesY, double[] otherX, double[] otherY) {
+        for (int vertex = 0; vertex < edgesX.length; vertex++) {
+            int next = (vertex + 1) % edgesX.length;
+            double normalX = edgesY[next] - edgesY[vertex];
+            double normalY = edgesX[vertex] - edgesX[next];
+            if (normalX == 0 && normalY == 0) {
+                continue;
+            }
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            for (int index = 0; index < edgesX.length; index++) {
+                double projection = edgesX[index] * normalX + edgesY[index] * normalY;
+                minimum = Math.min(minimum, projection);
+                maximum = Math.max(maximum, projection);
+            }
+            double otherMinimum = Double.POSITIVE_INFINITY;
+            double otherMaximum = Double.NEGATIVE_INFINITY;
+            for (int index = 0; index < otherX.length; index++) {
+                double projection = otherX[index] * normalX + otherY[index] * normalY;
+                otherMinimum = Math.min(otherMinimum, projection);
+                otherMaximum = Math.max(otherMaximum, projection);
+            }
+            if (maximum <= otherMinimum || otherMaximum <= minimum) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package thd.gameobjects.base;
+
+/**
+ * An interface for all game objects, which are part of the head-up display at the bottom of the window. They are drawn
+ * into the cached image of the HUD, which is only drawn again when one of them has changed. The game loop does not
+ * call their <code>addToCanvas</code> method.
+ *
+ * @see thd.gameobjects.unmovable.HudLayer
+ */
+public interface HudGameObject {
+
+    /**
+     * Adds the game object to the image of the HUD. Is only called when the image is drawn again.
+     */
+    void addToCanvas();
+
+    /**
+     * Determines if the game object shows something else than it did the last time it was drawn into the HUD.
+     *
+     * @return <code>true</code> if the image of the HUD has to be drawn again.
+     */
+    boolean hasChanged();
+}
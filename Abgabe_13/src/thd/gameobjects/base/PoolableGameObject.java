@@ -0,0 +1,16 @@
+package thd.gameobjects.base;
+
+/**
+ * An interface for all game objects, which are reused after they were removed from the game instead of being created
+ * again.
+ *
+ * @see GameObjectPool
+ */
+public interface PoolableGameObject {
+
+    /**
+     * Brings the game object back into the state it had right after it was created. This is called every time the
+     * game object is taken from its pool.
+     */
+    void resetForReuse();
+}
@@ -0,0 +1,167 @@
+package thd.gameobjects.base;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The opaque pixels of an image from the resources, scaled like the image is shown in the game view. Every row is
+ * stored as packed bits in an array of longs, the lowest bit of a word is the leftmost pixel. Two masks are compared
+ * row by row with a few word operations. Masks are created once per image and scale factor and are shared by all game
+ * objects. Masks can be requested by several threads, e.g. while the next level is prepared in the background.
+ */
+final class SpriteMask {
+    private static final String RESOURCE_PREFIX = "/resources/";
+    private static final int OPAQUE_ALPHA = 128;
+    private static final Map<String, List<SpriteMask>> MASKS = new HashMap<>();
+
+    private final double imageScaleFactor;
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] rows;
+    private final Rectangle opaqueBounds;
+
+    private SpriteMask(BufferedImage image, double imageScaleFactor) {
+        this.imageScaleFactor = imageScaleFactor;
+        width = (int) Math.ceil(image.getWidth() * imageScaleFactor);
+        height = (int) Math.ceil(image.getHeight() * imageScaleFactor);
+        wordsPerRow = (width + Long.SIZE - 1) / Long.SIZE;
+        rows = new long[wordsPerRow * height];
+        int minimumX = width;
+        int minimumY = height;
+        int maximumX = -1;
+        int maximumY = -1;
+        for (int y = 0; y < height; y++) {
+            int sourceY = Math.min(image.getHeight() - 1, (int) ((y + 0.5) / imageScaleFactor));
+            for (int x = 0; x < width; x++) {
+                int sourceX = Math.min(image.getWidth() - 1, (int) ((x + 0.5) / imageScaleFactor));
+                if (image.getRGB(sourceX, sourceY) >>> 24 >= OPAQUE_ALPHA) {
+                    rows[y * wordsPerRow + x / Long.SIZE] |= 1L << (x % Long.SIZE);
+                    minimumX = Math.min(minimumX, x);
+                    minimumY = Math.min(minimumY, y);
+                    maximumX = Math.max(maximumX, x);
+                    maximumY = Math.max(maximumY, y);
+                }
+            }
+        }
+        opaqueBounds = maximumX < 0 ? new Rectangle(0, 0, 0, 0)
+                : new Rectangle(minimumX, minimumY, maximumX - minimumX + 1, maximumY - minimumY + 1);
+    }
+
+    /**
+     * Returns the mask of an image from the resources. The mask is created when it is needed for the first time.
+     *
+     * @param imageFile        The file name of the image in the resources.
+     * @param imageScaleFactor The scale factor the image is shown with.
+     * @return The mask of the image.
+     */
+    static synchronized SpriteMask of(String imageFile, double imageScaleFactor) {
+        List<SpriteMask> masksOfImage = MASKS.computeIfAbsent(imageFile, file -> new ArrayList<>(1));
+        for (SpriteMask mask : masksOfImage) {
+            if (mask.imageScaleFactor == imageScaleFactor) {
+                return mask;
+            }
+        }
+        if (imageScaleFactor <= 0) {
+            throw new IllegalArgumentException("scaleFactor has to be a positive number.");
+        }
+        SpriteMask mask = new SpriteMask(readImage(imageFile), imageScaleFactor);
+        masksOfImage.add(mask);
+        return mask;
+    }
+
+    private static BufferedImage readImage(String imageFile) {
+        URL resourceUrl = Objects.requireNonNull(SpriteMask.class.getResource(RESOURCE_PREFIX + imageFile),
+                () -> "ImageFile \"" + imageFile + "\" could not be found!");
+        try {
+            return Objects.requireNonNull(ImageIO.read(resourceUrl),
+                    () -> "ImageFile \"" + imageFile + "\" is not a valid image!");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while reading the image file: " + imageFile, e);
+        }
+    }
+
+    /**
+     * Stores the bounds of all opaque pixels in the given rectangle, for a mask whose upper left corner is at the given
+     * coordinates.
+     *
+     * @param x      x-coordinate of the upper left corner of the image.
+     * @param y      y-coordinate of the upper left corner of the image.
+     * @param bounds Rectangle to store the bounds in.
+     */
+    void storeOpaqueBoundsIn(int x, int y, Rectangle bounds) {
+        bounds.setBounds(x + opaqueBounds.x, y + opaqueBounds.y, opaqueBounds.width, opaqueBounds.height);
+    }
+
+    /**
+     * Determines if an opaque pixel of this mask lies on an opaque pixel of the other mask.
+     *
+     * @param x      x-coordinate of the upper left corner of this mask.
+     * @param y      y-coordinate of the upper left corner of this mask.
+     * @param other  The other mask.
+     * @param otherX x-coordinate of the upper left corner of the other mask.
+     * @param otherY y-coordinate of the upper left corner of the other mask.
+     * @return <code>true</code> if both masks overlap in at least one pixel.
+     */
+    boolean overlaps(int x, int y, SpriteMask other, int otherX, int otherY) {
+        int startX = Math.max(x, otherX);
+        int endX = Math.min(x + width, otherX + other.width);
+        int startY = Math.max(y, otherY);
+        int endY = Math.min(y + height, otherY + other.height);
+        for (int row = startY; row < endY; row++) {
+            for (int column = startX; column < endX; column += Long.SIZE) {
+                long bits = bitsAt(row - y, column - x) & other.bitsAt(row - otherY, column - otherX);
+                if ((bits & lowestBits(endX - column)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if an opaque pixel of this mask lies inside the given rectangle.
+     *
+     * @param x    x-coordinate of the upper left corner of this mask.
+     * @param y    y-coordinate of the upper left corner of this mask.
+     * @param area The rectangle.
+     * @return <code>true</code> if at least one opaque pixel lies inside the rectangle.
+     */
+    boolean overlaps(int x, int y, Rectangle area) {
+        int startX = Math.max(x, area.x);
+        int endX = Math.min(x + width, area.x + area.width);
+        int startY = Math.max(y, area.y);
+        int endY = Math.min(y + height, area.y + area.height);
+        for (int row = startY; row < endY; row++) {
+            for (int column = startX; column < endX; column += Long.SIZE) {
+                if ((bitsAt(row - y, column - x) & lowestBits(endX - column)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private long bitsAt(int row, int column) {
+        int word = row * wordsPerRow + column / Long.SIZE;
+        int shift = column % Long.SIZE;
+        long bits = rows[word] >>> shift;
+        if (shift != 0 && column / Long.SIZE + 1 < wordsPerRow) {
+            bits |= rows[word + 1] << (Long.SIZE - shift);
+        }
+        return bits;
+    }
+
+    private static long lowestBits(int count) {
+        return count >= Long.SIZE ? -1L : (1L << count) - 1;
+    }
+}
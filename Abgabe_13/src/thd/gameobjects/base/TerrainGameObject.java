@@ -0,0 +1,11 @@
+package thd.gameobjects.base;
+
+/**
+ * An interface for all game objects, which are drawn once into a terrain strip of the level instead of being drawn in
+ * every frame. The game loop does not call their <code>addToCanvas</code> method, only the terrain strip does, when
+ * its image is created.
+ *
+ * @see thd.gameobjects.movable.TerrainLayer
+ */
+public interface TerrainGameObject {
+}
@@ -45,7 +45,7 @@ public class Balloon extends CollidingGameObject implements ShiftableGameObject,
         } else {
             speedInPixel = 2.2;
         }
-        hitBoxOffsets(7, 5, -4, -5);
+        pixelPerfectHitBox("balloon.png", size);
         distanceToBackground = 4;
         currentState = State.FLYING;
         balloonAnimationState = BalloonAnimationState.FLYING_1;
@@ -118,8 +118,7 @@ public class Balloon extends CollidingGameObject implements ShiftableGameObject,
         }
         if (other instanceof SceneryRight || other instanceof SceneryLeft || other instanceof MovableSceneryLeft
                 || other instanceof MovableSceneryRight || other instanceof BigIsland
-                || other instanceof SmallIsland || other instanceof IslandTopHitBox || other instanceof IslandTopHitBoxTwo
-                || other instanceof IslandBottomHitBox || other instanceof IslandBottomHitBoxTwo) {
+                || other instanceof SmallIsland) {
             balloonMovementPattern.changeDirectionIfObjectHitsBoundary();
         }
     }
@@ -5,12 +5,11 @@ import thd.game.level.Level;
 import thd.game.managers.GamePlayManager;
 import thd.game.utilities.GameView;
 import thd.gameobjects.base.ActivatableGameObject;
+import thd.gameobjects.base.BlockingGameObject;
 import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.ShiftableGameObject;
 
-import java.util.List;
-
 import java.awt.*;
 
 /**
@@ -21,12 +20,7 @@ import java.awt.*;
  * @see Position
  */
 
-public class BigIsland extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
-
-    private final IslandBottomHitBox islandBottomHitBox;
-    private final IslandBottomHitBoxTwo islandBottomHitBoxTwo;
-    private final IslandTopHitBox islandTopHitBox;
-    private final IslandTopHitBoxTwo islandTopHitBoxTwo;
+public class BigIsland extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter>, BlockingGameObject {
 
     /**
      * Creates a new big island in game view.
@@ -46,34 +40,24 @@ public class BigIsland extends CollidingGameObject implements ShiftableGameObjec
         rotation = 0;
         width = 180;
         height = 1500;
-        hitBoxOffsets(-72, -550, -30, -400);
+        hitBoxEllipse(0, 0, 78, 740);
         distanceToBackground = 1;
-        islandBottomHitBox = new IslandBottomHitBox(gameView, gamePlayManager);
-        islandBottomHitBoxTwo = new IslandBottomHitBoxTwo(gameView, gamePlayManager);
-        islandTopHitBox = new IslandTopHitBox(gameView, gamePlayManager);
-        islandTopHitBoxTwo = new IslandTopHitBoxTwo(gameView, gamePlayManager);
-        gamePlayManager.spawnGameObject(islandBottomHitBox);
-        gamePlayManager.spawnGameObject(islandBottomHitBoxTwo);
-        gamePlayManager.spawnGameObject(islandTopHitBox);
-        gamePlayManager.spawnGameObject(islandTopHitBoxTwo);
     }
 
     @Override
     public void updateStatus() {
+        if (gameObjectHitsLowerBoundary()) {
+            gamePlayManager.destroyGameObject(this);
+        }
     }
 
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
     }
 
-    /**
-     * Returns all special hitboxes of the island.
-     * These hitboxes are used for collision and path decision handling.
-     *
-     * @return A list of {@link CollidingGameObject} representing all hitbox objects.
-     */
-    public List<CollidingGameObject> collectAllHitBoxes() {
-        return List.of(islandBottomHitBox, islandBottomHitBoxTwo, islandTopHitBox);
+    @Override
+    protected boolean gameObjectHitsLowerBoundary() {
+        return position.getY() - height / 2 >= GameView.HEIGHT;
     }
 
     /**
@@ -84,10 +68,6 @@ public class BigIsland extends CollidingGameObject implements ShiftableGameObjec
     @Override
     public void updatePosition() {
         position.down(speedInPixel);
-        islandBottomHitBox.getPosition().updateCoordinates(position.getX() + 6, position.getY() + 700);
-        islandBottomHitBoxTwo.getPosition().updateCoordinates(position.getX() + 6, position.getY() + 700);
-        islandTopHitBox.getPosition().updateCoordinates(position.getX() + 6, position.getY() - 500);
-        islandTopHitBoxTwo.getPosition().updateCoordinates(position.getX() + 6, position.getY() - 680);
     }
 
 
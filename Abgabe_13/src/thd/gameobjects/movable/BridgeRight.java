@@ -5,6 +5,7 @@ import thd.game.level.Level;
 import thd.game.managers.GamePlayManager;
 import thd.game.utilities.GameView;
 import thd.gameobjects.base.ActivatableGameObject;
+import thd.gameobjects.base.BlockingGameObject;
 import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.ShiftableGameObject;
@@ -20,7 +21,7 @@ import java.awt.*;
  * @see Position
  */
 
-public class BridgeRight extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
+public class BridgeRight extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter>, BlockingGameObject {
 
     /**
      * Creates the Bridge street on the right side.
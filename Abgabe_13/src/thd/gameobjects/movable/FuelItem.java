@@ -41,7 +41,7 @@ public class FuelItem extends CollidingGameObject implements ShiftableGameObject
         rotation = 0;
         width = 30;
         height = 90;
-        hitBoxOffsets(5, 4, -6, 0);
+        pixelPerfectHitBox("fuel.png", size);
         distanceToBackground = 3;
         currentState = State.MOVING;
         explosionState = ExplosionState.EXPLOSION_1;
@@ -46,12 +46,17 @@ public class GreyJet extends CollidingGameObject implements ShiftableGameObject,
         rotation = 0;
         width = 35;
         height = 25;
-        hitBoxOffsets(5, 3, -5, -8);
+        markAsFastMoving();
         distanceToBackground = 4;
         currentState = State.FLYING;
         greyJetAnimationState = greyJetMovementPattern.movingRight ? GreyJetAnimationState.RIGHT_1
                 : GreyJetAnimationState.LEFT_1;
         explosionState = ExplosionState.EXPLOSION_1;
+        updateHitBox();
+    }
+
+    private void updateHitBox() {
+        pixelPerfectHitBox(greyJetMovementPattern.movingRight ? "grey_jet.png" : "grey_jet_left.png", size);
     }
 
     private enum State {
@@ -182,6 +187,7 @@ public class GreyJet extends CollidingGameObject implements ShiftableGameObject,
      */
     public void initializeTheSpawnPoint(boolean movingRight) {
         greyJetMovementPattern.movingRight = movingRight;
+        updateHitBox();
     }
 
 
@@ -45,12 +45,12 @@ public class Helicopter extends CollidingGameObject implements ShiftableGameObje
         rotation = 0;
         width = 41;
         height = 26;
-        hitBoxOffsets(8, 3, -6, 0);
         distanceToBackground = 4;
         helicopterAnimationState = helicopterMovementPattern.movingRight ? HelicopterAnimationState.RIGHT
                 : HelicopterAnimationState.LEFT;
         currentState = State.FLYING;
         explosionState = ExplosionState.EXPLOSION_1;
+        pixelPerfectHitBox(helicopterAnimationState.image, size);
     }
 
     private enum State {
@@ -89,6 +89,7 @@ public class Helicopter extends CollidingGameObject implements ShiftableGameObje
                     } else {
                         helicopterAnimationState = helicopterAnimationState.nextLeft();
                     }
+                    pixelPerfectHitBox(helicopterAnimationState.image, size);
                 }
             }
             case EXPLODING -> {
@@ -126,8 +127,7 @@ public class Helicopter extends CollidingGameObject implements ShiftableGameObje
         }
         if (other instanceof SceneryRight || other instanceof SceneryLeft || other instanceof MovableSceneryLeft
                 || other instanceof MovableSceneryRight || other instanceof BigIsland
-                || other instanceof SmallIsland || other instanceof IslandTopHitBox || other instanceof IslandTopHitBoxTwo
-                || other instanceof IslandBottomHitBox || other instanceof IslandBottomHitBoxTwo) {
+                || other instanceof SmallIsland) {
             helicopterMovementPattern.changeDirectionIfObjectHitsBoundary();
         }
     }
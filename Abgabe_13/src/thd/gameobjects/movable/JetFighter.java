@@ -10,10 +10,7 @@ import thd.gameobjects.base.Position;
 import thd.game.utilities.GameView;
 
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Represents the main playable jet fighter in the {@link GameView} window.
@@ -27,10 +24,10 @@ import java.util.List;
 
 public class JetFighter extends CollidingGameObject implements MainCharacter {
     private final int shotDurationInMilliseconds;
-    private final List<CollidingGameObject> collidingGameObjectsForPathDecision;
     private boolean collisionWithFuelItem;
     private boolean increaseTheSpeed;
     private final RedFuelBar redFuelBar;
+    private final Supplier<ShootFromPlayer> shootFromPlayerFactory;
     private FlyingState flyingState;
     private State currentState;
     private SpeedingState speedingState;
@@ -66,11 +63,12 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
         width = 38;
         height = 36;
         shotDurationInMilliseconds = 300;
-        hitBoxOffsets(6, 7, -9, -3);
-        collidingGameObjectsForPathDecision = new LinkedList<>();
+        markAsFastMoving();
         distanceToBackground = 4;
         this.redFuelBar = redFuelBar;
+        shootFromPlayerFactory = () -> new ShootFromPlayer(gameView, gamePlayManager);
         flyingState = FlyingState.FLYING_STANDARD;
+        pixelPerfectHitBox(flyingState.getImage(), size);
         currentState = State.FLYING;
         speedingState = SpeedingState.FLYING_1;
         explosionState = ExplosionState.EXPLOSION_1;
@@ -126,8 +124,8 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
             position.left(speedInPixel);
         }
         isFlyingLeft = true;
-        for (CollidingGameObject collidingGameObject : collidingGameObjectsForPathDecision) {
-            if (collidesWith(collidingGameObject) && isBlockingObject(collidingGameObject)) {
+        for (CollidingGameObject collidingGameObject : gamePlayManager.queryBlocking(hitBox())) {
+            if (isBlockingObject(collidingGameObject) && collidesWith(collidingGameObject)) {
                 position.right(speedInPixel);
                 break;
             }
@@ -144,8 +142,8 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
             position.right(speedInPixel);
         }
         isFlyingRight = true;
-        for (CollidingGameObject collidingGameObject : collidingGameObjectsForPathDecision) {
-            if (collidesWith(collidingGameObject) && isBlockingObject(collidingGameObject)) {
+        for (CollidingGameObject collidingGameObject : gamePlayManager.queryBlocking(hitBox())) {
+            if (isBlockingObject(collidingGameObject) && collidesWith(collidingGameObject)) {
                 position.left(speedInPixel);
                 break;
             }
@@ -165,7 +163,7 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
     public void shoot() {
         if (currentState != State.RESPAWNING) {
             if (gameView.timer(shotDurationInMilliseconds, 0, this)) {
-                ShootFromPlayer shootFromPlayer = new ShootFromPlayer(gameView, gamePlayManager);
+                ShootFromPlayer shootFromPlayer = gamePlayManager.obtainGameObject(ShootFromPlayer.class, shootFromPlayerFactory);
                 shootFromPlayer.getPosition().updateCoordinates(position.getX() + 20, position.getY() - 11);
                 gamePlayManager.spawnGameObject(shootFromPlayer);
                 gameView.playSound("shoot.wav", false);
@@ -224,10 +222,6 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
     private boolean isSceneryCollidingWithJet(CollidingGameObject other) {
         return other instanceof BigIsland
                 || other instanceof SmallIsland
-                || other instanceof IslandBottomHitBox
-                || other instanceof IslandBottomHitBoxTwo
-                || other instanceof IslandTopHitBox
-                || other instanceof IslandTopHitBoxTwo
                 || other instanceof MovableSceneryRight
                 || other instanceof MovableSceneryLeft;
     }
@@ -250,22 +244,6 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
         explosionState = ExplosionState.EXPLOSION_1;
     }
 
-    /**
-     * Adds a game object to the list of objects for path decision.
-     *
-     * @param collidingGameObject The game object to be checked for collision.
-     */
-    public void addPathDecisionObjects(CollidingGameObject collidingGameObject) {
-        collidingGameObjectsForPathDecision.add(collidingGameObject);
-    }
-
-    /**
-     * Removes all game objects of the list.
-     */
-    public void removePathDecisionObjects() {
-        collidingGameObjectsForPathDecision.clear();
-    }
-
     /**
      * Updates the position of the gaming object.
      *
@@ -276,7 +254,8 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
     }
 
     /**
-     * Sets the spawn point based on the given {@link InitializeSpawnPoint} object.
+     * Sets the spawn point based on the given {@link InitializeSpawnPoint} object. The spawn point is
+     * <code>null</code> until the row of the level with the spawn point has been loaded.
      *
      * @param initializeSpawnPoint the object used to determine the spawn point.
      */
@@ -301,7 +280,7 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
     }
 
     private void initializeSpawnPointForPlayer() {
-        if (position.getY() <= initializeSpawnPoint.getPosition().getY()) {
+        if (initializeSpawnPoint != null && position.getY() <= initializeSpawnPoint.getPosition().getY()) {
             gamePlayManager.finishedLevel();
         }
     }
@@ -383,7 +362,7 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
 
     private void handleRespawningState() {
         stopJetAndSpeedSounds();
-        flyingState = FlyingState.FLYING_STANDARD;
+        changeFlyingState(FlyingState.FLYING_STANDARD);
 
         if (gameView.timer(150, 0, this)) {
             blinkVisible = !blinkVisible;
@@ -399,38 +378,29 @@ public class JetFighter extends CollidingGameObject implements MainCharacter {
 
     private void updateFlyingState() {
         if (isFlyingRight) {
-            flyingState = FlyingState.FLYING_RIGHT;
+            changeFlyingState(FlyingState.FLYING_RIGHT);
         } else if (isFlyingLeft) {
-            flyingState = FlyingState.FLYING_LEFT;
+            changeFlyingState(FlyingState.FLYING_LEFT);
         } else {
-            flyingState = FlyingState.FLYING_STANDARD;
+            changeFlyingState(FlyingState.FLYING_STANDARD);
         }
     }
 
-    private Position findSafeRespawnPosition() {
-        ArrayList<Double> possibleXCoordinatesToSpawn = new ArrayList<>();
-
-        for (double xCoordinate = 0; xCoordinate <= GameView.WIDTH - 40.0; xCoordinate += 80.0) {
-            possibleXCoordinatesToSpawn.add(xCoordinate);
+    private void changeFlyingState(FlyingState newFlyingState) {
+        if (flyingState != newFlyingState) {
+            flyingState = newFlyingState;
+            pixelPerfectHitBox(flyingState.getImage(), size);
         }
-        double currentXCoordinate = position.getX();
-        possibleXCoordinatesToSpawn.sort(Comparator.comparingDouble(spawnX -> Math.abs(spawnX - currentXCoordinate)));
-
-        for (double xCoordinate : possibleXCoordinatesToSpawn) {
-            position.updateCoordinates(xCoordinate, 600);
-            boolean collides = false;
+    }
 
-            for (CollidingGameObject object : collidingGameObjectsForPathDecision) {
-                if (collidesWith(object)) {
-                    collides = true;
-                    break;
-                }
-            }
-            if (!collides) {
-                return new Position(xCoordinate, 600);
-            }
+    private Position findSafeRespawnPosition() {
+        double currentXCoordinate = position.getX();
+        position.updateCoordinates(currentXCoordinate, 600);
+        double xCoordinate = gamePlayManager.nearestSafeX(currentXCoordinate, hitBox());
+        if (Double.isNaN(xCoordinate)) {
+            return new Position(GameView.WIDTH / 2.0, 600);
         }
-        return new Position(GameView.WIDTH / 2.0, 600);
+        return new Position(xCoordinate, 600);
     }
 
     private void stopJetAndSpeedSounds() {
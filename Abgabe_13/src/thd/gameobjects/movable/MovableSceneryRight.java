@@ -4,9 +4,11 @@ import thd.game.level.Difficulty;
 import thd.game.level.Level;
 import thd.game.managers.GamePlayManager;
 import thd.gameobjects.base.ActivatableGameObject;
+import thd.gameobjects.base.BlockingGameObject;
 import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.ShiftableGameObject;
+import thd.gameobjects.base.TerrainGameObject;
 import thd.game.utilities.GameView;
 
 import java.awt.*;
@@ -19,7 +21,7 @@ import java.awt.*;
  * @see Position
  */
 
-public class MovableSceneryRight extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
+public class MovableSceneryRight extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter>, BlockingGameObject, TerrainGameObject {
 
     /**
      * Creates a new instance of the right-side movable scenery object.
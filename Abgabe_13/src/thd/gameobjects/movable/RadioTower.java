@@ -16,7 +16,8 @@ import thd.game.utilities.GameView;
  * @see GameView
  * @see Position
  */
-public class RadioTower extends GameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
+public class RadioTower extends GameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter>,
+        TerrainGameObject {
 
     /**
      * Creates a new radio tower object that appears at a defined start position on the
@@ -16,7 +16,8 @@ import thd.game.utilities.GameView;
  * @see GameView
  * @see Position
  */
-public class Satellite extends GameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
+public class Satellite extends GameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter>,
+        TerrainGameObject {
     private boolean spawnedLeft;
 
     /**
@@ -44,11 +44,15 @@ public class Ship extends CollidingGameObject implements ShiftableGameObject, Ac
         rotation = 0;
         width = 70;
         height = 30;
-        hitBoxOffsets(7, 4, -2, -5);
         distanceToBackground = 2;
         currentState = State.DRIVING;
         shipAnimationState = ShipAnimationState.WAVE_1;
         explosionState = ExplosionState.EXPLOSION_1;
+        updateHitBox();
+    }
+
+    private void updateHitBox() {
+        pixelPerfectHitBox(shipMovementPattern.movingRight ? "ship.png" : "ship_left.png", size);
     }
 
     private enum State {
@@ -118,9 +122,9 @@ public class Ship extends CollidingGameObject implements ShiftableGameObject, Ac
         }
         if (other instanceof SceneryRight || other instanceof SceneryLeft || other instanceof MovableSceneryLeft
                 || other instanceof MovableSceneryRight || other instanceof BigIsland
-                || other instanceof SmallIsland || other instanceof IslandTopHitBox || other instanceof IslandTopHitBoxTwo
-                || other instanceof IslandBottomHitBox || other instanceof IslandBottomHitBoxTwo) {
+                || other instanceof SmallIsland) {
             shipMovementPattern.changeDirectionIfObjectHitsBoundary();
+            updateHitBox();
         }
     }
 
@@ -3,26 +3,34 @@ package thd.gameobjects.movable;
 import thd.game.managers.GamePlayManager;
 import thd.game.utilities.GameView;
 import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.PoolableGameObject;
 import thd.gameobjects.base.Position;
 
 
-class ShootFromPlayer extends CollidingGameObject {
+class ShootFromPlayer extends CollidingGameObject implements PoolableGameObject {
 
     private ShootAnimationState shootAnimationState;
     private State currentState;
 
     ShootFromPlayer(GameView gameView, GamePlayManager gamePlayManager) {
         super(gameView, gamePlayManager);
-        position.updateCoordinates(0, 0);
-        speedInPixel = 4;
         size = 0.80;
         rotation = 0;
-        width = 1;
-        height = 5;
         distanceToBackground = 3;
         hitBoxOffsets(0, 0, 0, 8);
+        markAsFastMoving();
+        resetForReuse();
+    }
+
+    @Override
+    public void resetForReuse() {
+        position.updateCoordinates(0, 0);
+        speedInPixel = 4;
+        width = 1;
+        height = 5;
         currentState = State.FLYING;
         shootAnimationState = ShootAnimationState.SHOOT_ANIMATION_1;
+        gameView.resetTimers(this);
     }
 
     private enum State {
@@ -81,7 +89,7 @@ class ShootFromPlayer extends CollidingGameObject {
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
         if (other instanceof MovableSceneryLeft || other instanceof MovableSceneryRight || other instanceof BigIsland
-                || other instanceof IslandBottomHitBox || other instanceof IslandBottomHitBoxTwo || other instanceof SmallIsland) {
+                || other instanceof SmallIsland) {
             speedInPixel = 0;
             currentState = State.EXPLODING;
         } else {
@@ -1,16 +1,18 @@
 package thd.gameobjects.movable;
 
+import thd.game.utilities.GameView;
+
 class ShootFromPlayerBlockImages {
 
     /**
      * The white shoot which is coming from the playable Character.
      */
 
-    static final String SHOOT_FROM_PLAYER_BLOCK_IMAGES = """
+    static final GameView.BlockImage SHOOT_FROM_PLAYER_BLOCK_IMAGES = new GameView.BlockImage("""
             W
             W
             W
             W
             W
-            """;
+            """);
 }
@@ -4,6 +4,7 @@ import thd.game.level.Difficulty;
 import thd.game.level.Level;
 import thd.game.managers.GamePlayManager;
 import thd.gameobjects.base.CollidingGameObject;
+import thd.gameobjects.base.PoolableGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.ShiftableGameObject;
 import thd.game.utilities.GameView;
@@ -13,17 +14,26 @@ import thd.game.utilities.GameView;
  *
  * @see Tank
  */
-class ShootFromTank extends CollidingGameObject implements ShiftableGameObject {
+class ShootFromTank extends CollidingGameObject implements ShiftableGameObject, PoolableGameObject {
 
-    private final Tank tank;
+    private Tank tank;
     private State currentState;
     private ShootAnimationState shootAnimationState;
     private boolean isCollidableWithScenery;
     private double pixelForShootFromTank;
 
-    ShootFromTank(GameView gameView, GamePlayManager gamePlayManager, Tank tank) {
+    ShootFromTank(GameView gameView, GamePlayManager gamePlayManager) {
         super(gameView, gamePlayManager);
-        this.tank = tank;
+        size = 0.80;
+        rotation = 0;
+        distanceToBackground = 4;
+        hitBoxOffsets(0, 0, 1, 0);
+        markAsFastMoving();
+        resetForReuse();
+    }
+
+    @Override
+    public void resetForReuse() {
         if (Level.difficulty == Difficulty.EASY) {
             pixelForShootFromTank = 0.15;
             speedInPixel = 4.0;
@@ -31,15 +41,12 @@ class ShootFromTank extends CollidingGameObject implements ShiftableGameObject {
             pixelForShootFromTank = 0.18;
             speedInPixel = 5.5;
         }
-        size = 0.80;
-        rotation = 0;
         width = 9;
         height = 2;
-        distanceToBackground = 4;
-        hitBoxOffsets(0, 0, 1, 0);
         currentState = State.FLYING;
         shootAnimationState = ShootAnimationState.SHOOT_ANIMATION_1;
         isCollidableWithScenery = false;
+        gameView.resetTimers(this);
     }
 
     private enum State {
@@ -99,8 +106,7 @@ class ShootFromTank extends CollidingGameObject implements ShiftableGameObject {
             gamePlayManager.destroyGameObject(this);
         }
         if (isCollidableWithScenery && (other instanceof MovableSceneryLeft || other instanceof MovableSceneryRight
-                || other instanceof BigIsland || other instanceof SmallIsland || other instanceof IslandTopHitBox
-                || other instanceof IslandTopHitBoxTwo || other instanceof IslandBottomHitBox || other instanceof IslandBottomHitBoxTwo)) {
+                || other instanceof BigIsland || other instanceof SmallIsland)) {
             if (currentState == State.FLYING) {
                 currentState = State.EXPLODING;
             }
@@ -134,7 +140,8 @@ class ShootFromTank extends CollidingGameObject implements ShiftableGameObject {
         return position.getX() >= GameView.WIDTH;
     }
 
-    void updateTheStartPositionFromShoot(double xCoordinate, double yCoordinate) {
+    void updateTheStartPositionFromShoot(Tank tank, double xCoordinate, double yCoordinate) {
+        this.tank = tank;
         position.updateCoordinates(xCoordinate, yCoordinate);
     }
 
@@ -1,8 +1,10 @@
 package thd.gameobjects.movable;
 
+import thd.game.utilities.GameView;
+
 class ShootFromTankBlockImages {
 
-    static final String SHOOT_FROM_TANK_BLOCK_IMAGES = """
+    static final GameView.BlockImage SHOOT_FROM_TANK_BLOCK_IMAGES = new GameView.BlockImage("""
               W
-            """;
+            """);
 }
@@ -4,6 +4,7 @@ import thd.game.level.Difficulty;
 import thd.game.level.Level;
 import thd.game.managers.GamePlayManager;
 import thd.gameobjects.base.ActivatableGameObject;
+import thd.gameobjects.base.BlockingGameObject;
 import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.base.ShiftableGameObject;
@@ -17,7 +18,7 @@ import thd.game.utilities.GameView;
  * @see Position
  */
 
-public class SmallIsland extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
+public class SmallIsland extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter>, BlockingGameObject {
 
     /**
      * Creates a new big island in game view.
@@ -37,18 +38,27 @@ public class SmallIsland extends CollidingGameObject implements ShiftableGameObj
         rotation = 0;
         width = 40;
         height = 100;
-        hitBoxOffsets(-25, -35, 13, -30);
+        hitBoxConvexPolygon(new double[]{-9, 15, 30, 34, 28, 11, -6, -21, -30, -24},
+                new double[]{-35, -35, -21, 0, 25, 41, 41, 31, 0, -21});
         distanceToBackground = 1;
     }
 
     @Override
     public void updateStatus() {
+        if (gameObjectHitsLowerBoundary()) {
+            gamePlayManager.destroyGameObject(this);
+        }
     }
 
     @Override
     public void reactToCollisionWith(CollidingGameObject other) {
     }
 
+    @Override
+    protected boolean gameObjectHitsLowerBoundary() {
+        return position.getY() - height / 2 >= GameView.HEIGHT;
+    }
+
     /**
      * Updates the position of the gaming object.
      *
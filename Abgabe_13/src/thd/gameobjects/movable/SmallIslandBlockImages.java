@@ -1,8 +1,10 @@
 package thd.gameobjects.movable;
 
+import thd.game.utilities.GameView;
+
 class SmallIslandBlockImages {
 
-    static final String SMALL_ISLAND_DECORATION = """
+    static final GameView.BlockImage SMALL_ISLAND_DECORATION = new GameView.BlockImage("""
                                  GgZzKkGgkK
                                  GzGGzkGkgk
                                  GgGgKKkGkK
@@ -29,6 +31,6 @@ class SmallIslandBlockImages {
                                  gzkGkkGggg
                                  GkZZkkkkKG
                                  GzkgzZzgzK
-            """;
+            """);
 
 }
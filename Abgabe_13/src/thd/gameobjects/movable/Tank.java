@@ -6,6 +6,8 @@ import thd.game.managers.GamePlayManager;
 import thd.game.utilities.GameView;
 import thd.gameobjects.base.*;
 
+import java.util.function.Supplier;
+
 /**
  * Represents an enemy tank in the {@link GameView} window.
  * The tank is a movable object that has different properties,
@@ -18,7 +20,7 @@ import thd.gameobjects.base.*;
 
 public class Tank extends CollidingGameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
     private final TankMovementPattern tankMovementPattern;
-    private ShootFromTank shootFromTank;
+    private final Supplier<ShootFromTank> shootFromTankFactory;
     private boolean shotIsActive;
     private boolean stopHorizontalMovement;
     private State currentState;
@@ -34,6 +36,7 @@ public class Tank extends CollidingGameObject implements ShiftableGameObject, Ac
     public Tank(GameView gameView, GamePlayManager gamePlayManager) {
         super(gameView, gamePlayManager);
         tankMovementPattern = new TankMovementPattern();
+        shootFromTankFactory = () -> new ShootFromTank(gameView, gamePlayManager);
         position.updateCoordinates(tankMovementPattern.startPosition());
         if (Level.difficulty == Difficulty.EASY) {
             speedInPixel = 1.8;
@@ -98,15 +101,20 @@ public class Tank extends CollidingGameObject implements ShiftableGameObject, Ac
     }
 
     private void shootOnPlayer() {
-        if (stopHorizontalMovement && !shotIsActive) {
-            shootFromTank = new ShootFromTank(gameView, gamePlayManager, this);
+        if (stopHorizontalMovement && !shotIsActive && isInShootingRange()) {
+            ShootFromTank shootFromTank = gamePlayManager.obtainGameObject(ShootFromTank.class, shootFromTankFactory);
             double shootXCoordinate = tankMovementPattern.movingRight ? position.getX() + 38 : position.getX() - 8;
-            shootFromTank.updateTheStartPositionFromShoot(shootXCoordinate, position.getY() + 10);
-            changeShootToActive(shootFromTank);
+            shootFromTank.updateTheStartPositionFromShoot(this, shootXCoordinate, position.getY() + 10);
+            if (!shootSoundFromTank) {
+                gameView.playSound("tank_shoot.wav", false);
+                shootSoundFromTank = true;
+            }
+            gamePlayManager.spawnGameObject(shootFromTank);
+            shotIsActive = true;
         }
     }
 
-    private void changeShootToActive(ShootFromTank shootFromTank) {
+    private boolean isInShootingRange() {
         int yCoordinate = 585;
 
         if (jetFighter != null) {
@@ -119,14 +127,7 @@ public class Tank extends CollidingGameObject implements ShiftableGameObject, Ac
             }
         }
 
-        if (position.getY() >= yCoordinate) {
-            if (!shootSoundFromTank) {
-                gameView.playSound("tank_shoot.wav", false);
-                shootSoundFromTank = true;
-            }
-            gamePlayManager.spawnGameObject(shootFromTank);
-            shotIsActive = true;
-        }
+        return position.getY() >= yCoordinate;
     }
 
     /**
@@ -0,0 +1,120 @@
+package thd.gameobjects.movable;
+
+import thd.game.level.Difficulty;
+import thd.game.level.Level;
+import thd.game.managers.GamePlayManager;
+import thd.game.utilities.GameView;
+import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.Position;
+import thd.gameobjects.base.ShiftableGameObject;
+import thd.gameobjects.base.TerrainGameObject;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Shows the static terrain of the level: the banks of the river and the decorations beside it. The terrain is split
+ * into horizontal strips of some rows. The game objects of a strip are drawn only once into an image, when the strip
+ * is added above the window, and the image is moved down with the river in every frame. The strips are drawn from the
+ * bottom to the top, so the parts of the decorations that reach into the strip below lie on top of it.
+ *
+ * @see TerrainGameObject
+ * @see GameView#recordImage(Object, int, int, Runnable)
+ */
+public class TerrainLayer extends GameObject implements ShiftableGameObject {
+
+    private final ArrayDeque<TerrainStrip> terrainStrips;
+
+    /**
+     * Creates an empty terrain layer.
+     *
+     * @param gameView        The GameView object where the terrain will be displayed.
+     * @param gamePlayManager The main gameplay logic.
+     */
+    public TerrainLayer(GameView gameView, GamePlayManager gamePlayManager) {
+        super(gameView, gamePlayManager);
+        terrainStrips = new ArrayDeque<>();
+        width = GameView.WIDTH;
+        distanceToBackground = 1;
+    }
+
+    /**
+     * Adds a strip above the strips that were added before and draws its image at once, long before the strip comes
+     * into the window. The game objects are placed relative to the upper left corner of the strip.
+     *
+     * @param y           y-coordinate of the upper edge of the strip in the window.
+     * @param height      Height of the strip in pixels, including the parts of the game objects that reach below
+     *                    their rows.
+     * @param gameObjects The game objects of the strip.
+     */
+    public void addStrip(double y, int height, List<GameObject> gameObjects) {
+        TerrainStrip terrainStrip = new TerrainStrip(y - position.getY(), height);
+        gameView.recordImage(terrainStrip, GameView.WIDTH, height, () -> {
+            for (GameObject gameObject : gameObjects) {
+                gameObject.addToCanvas();
+            }
+        });
+        gameView.prepareRecordedImage(terrainStrip);
+        terrainStrips.addLast(terrainStrip);
+    }
+
+    /**
+     * Removes all strips, e.g. when a new level starts, and resets the position of the layer.
+     */
+    public void removeAllStrips() {
+        for (TerrainStrip terrainStrip : terrainStrips) {
+            gameView.removeRecordedImage(terrainStrip);
+        }
+        terrainStrips.clear();
+        position.updateCoordinates(0, 0);
+    }
+
+    /**
+     * Updates the position of the gaming object.
+     *
+     * @see Position
+     */
+    @Override
+    public void updatePosition() {
+        if (Level.difficulty == Difficulty.EASY) {
+            position.down(1.8);
+        } else {
+            position.down(2.2);
+        }
+    }
+
+    /**
+     * Adds the images of all visible strips to the game canvas in {@link GameView}. Strips that have left the window
+     * at the bottom are removed.
+     *
+     * @see GameView
+     * @see Position
+     */
+    @Override
+    public void addToCanvas() {
+        Iterator<TerrainStrip> iterator = terrainStrips.iterator();
+        while (iterator.hasNext()) {
+            TerrainStrip terrainStrip = iterator.next();
+            double y = position.getY() + terrainStrip.offsetY;
+            if (y >= GameView.HEIGHT) {
+                gameView.removeRecordedImage(terrainStrip);
+                iterator.remove();
+            } else if (y + terrainStrip.height > 0) {
+                gameView.addRecordedImageToCanvas(terrainStrip, position.getX(), y);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static final class TerrainStrip {
+        private final double offsetY;
+        private final int height;
+
+        private TerrainStrip(double offsetY, int height) {
+            this.offsetY = offsetY;
+            this.height = height;
+        }
+    }
+}
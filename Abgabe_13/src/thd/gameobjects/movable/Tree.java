@@ -18,7 +18,8 @@ import java.util.Random;
  * @see GameView
  * @see Position
  */
-public class Tree extends GameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter> {
+public class Tree extends GameObject implements ShiftableGameObject, ActivatableGameObject<JetFighter>,
+        TerrainGameObject {
 
     private Random random;
     private int randomNumberForSpawn;
@@ -1,10 +1,12 @@
 package thd.gameobjects.unmovable;
 
+import thd.game.utilities.GameView;
+
 class FractionalLineBlockImage {
     /**
      * The black fractional line which is in the black rectangle in the bottom centre in {@link FuelGage}.
      */
-    static final String FRACTIONAL_LINE_BLOCK_IMAGE = """
+    static final GameView.BlockImage FRACTIONAL_LINE_BLOCK_IMAGE = new GameView.BlockImage("""
                      L
                     L
                    L
@@ -12,5 +14,5 @@ class FractionalLineBlockImage {
                  L
                 L
                L
-            """;
+            """);
 }
@@ -2,6 +2,7 @@ package thd.gameobjects.unmovable;
 
 import thd.game.managers.GamePlayManager;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.HudGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.movable.JetFighter;
 import thd.game.utilities.GameView;
@@ -15,7 +16,8 @@ import java.awt.*;
  * @see Position
  */
 
-public class FuelGage extends GameObject {
+public class FuelGage extends GameObject implements HudGameObject {
+    private boolean drawn;
 
     /**
      * Creates a fuel gage object and it starts full.
@@ -43,6 +45,7 @@ public class FuelGage extends GameObject {
      */
     @Override
     public void addToCanvas() {
+        drawn = true;
         gameView.addRectangleToCanvas(position.getX(), position.getY() + 8, width, height, 3, false, Color.BLACK);
         gameView.addTextToCanvas("E", position.getX() + 5, position.getY() + 19, size, true, Color.BLACK, 0, "font.ttf");
         gameView.addBlockImageToCanvas(FractionalLineBlockImage.FRACTIONAL_LINE_BLOCK_IMAGE, position.getX() + 61, position.getY() + 22, 4, 0);
@@ -54,5 +57,8 @@ public class FuelGage extends GameObject {
         gameView.addRectangleToCanvas(position.getX() + 85, position.getY() + 10, 3, 7, 1, true, Color.BLACK);
     }
 
-
+    @Override
+    public boolean hasChanged() {
+        return !drawn;
+    }
 }
@@ -0,0 +1,69 @@
+package thd.gameobjects.unmovable;
+
+import thd.game.managers.GamePlayManager;
+import thd.game.utilities.GameView;
+import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.HudGameObject;
+import thd.gameobjects.base.Position;
+
+import java.util.List;
+
+/**
+ * Shows the head-up display at the bottom of the window: the status bar with the score, the fuel gage and the lives.
+ * They are drawn together into one image, which is put onto the canvas as a whole in every frame. The image is only
+ * drawn again, when one of the displays has changed, e.g. because the player got points.
+ *
+ * @see HudGameObject
+ * @see GameView#recordImage(Object, int, int, int, int, Runnable)
+ */
+public class HudLayer extends GameObject {
+    private static final int HEIGHT_OF_HUD = 65;
+
+    private final List<HudGameObject> hudGameObjects;
+    private boolean recorded;
+
+    /**
+     * Creates the HUD with the given displays. They are drawn in the given order, so the first one lies at the bottom.
+     *
+     * @param gameView        The GameView object where the HUD will be displayed.
+     * @param gamePlayManager The main gameplay logic.
+     * @param hudGameObjects  The displays of the HUD.
+     */
+    public HudLayer(GameView gameView, GamePlayManager gamePlayManager, HudGameObject... hudGameObjects) {
+        super(gameView, gamePlayManager);
+        this.hudGameObjects = List.of(hudGameObjects);
+        position.updateCoordinates(0, GameView.HEIGHT - HEIGHT_OF_HUD);
+        width = GameView.WIDTH;
+        height = HEIGHT_OF_HUD;
+        distanceToBackground = 5;
+    }
+
+    /**
+     * Adds the image of the HUD to the game canvas in {@link GameView}. The image is recorded again first, if one of
+     * the displays has changed.
+     *
+     * @see GameView
+     * @see Position
+     */
+    @Override
+    public void addToCanvas() {
+        if (!recorded || anyDisplayHasChanged()) {
+            gameView.recordImage(this, (int) position.getX(), (int) position.getY(), (int) width, (int) height, () -> {
+                for (HudGameObject hudGameObject : hudGameObjects) {
+                    hudGameObject.addToCanvas();
+                }
+            });
+            recorded = true;
+        }
+        gameView.addRecordedImageToCanvas(this, position.getX(), position.getY());
+    }
+
+    private boolean anyDisplayHasChanged() {
+        for (HudGameObject hudGameObject : hudGameObjects) {
+            if (hudGameObject.hasChanged()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
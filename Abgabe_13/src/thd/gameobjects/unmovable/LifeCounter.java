@@ -4,6 +4,7 @@ import thd.game.level.Difficulty;
 import thd.game.level.Level;
 import thd.game.managers.GamePlayManager;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.HudGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.movable.JetFighter;
 import thd.game.utilities.GameView;
@@ -18,8 +19,9 @@ import java.awt.*;
  * @see Position
  */
 
-public class LifeCounter extends GameObject {
+public class LifeCounter extends GameObject implements HudGameObject {
     private int lifeCounter;
+    private int drawnLifeCounter;
 
     /**
      * Creates a new life counter which starts at 3, which means that the player has
@@ -75,6 +77,7 @@ public class LifeCounter extends GameObject {
      */
     @Override
     public void addToCanvas() {
+        drawnLifeCounter = lifeCounter;
         if (lifeCounter >= 10) {
             gameView.addTextToCanvas(String.valueOf(lifeCounter), position.getX() - 30, position.getY() + 9,
                     size, true, Color.BLACK, rotation, "font.ttf");
@@ -85,5 +88,8 @@ public class LifeCounter extends GameObject {
         gameView.addImageToCanvas("jet_fighter.png", position.getX() + 25, position.getY() + 15, 0.65, 0);
     }
 
-
+    @Override
+    public boolean hasChanged() {
+        return lifeCounter != drawnLifeCounter;
+    }
 }
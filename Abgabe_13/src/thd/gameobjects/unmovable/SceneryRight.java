@@ -1,6 +1,7 @@
 package thd.gameobjects.unmovable;
 
 import thd.game.managers.GamePlayManager;
+import thd.gameobjects.base.BlockingGameObject;
 import thd.gameobjects.base.CollidingGameObject;
 import thd.gameobjects.base.Position;
 import thd.game.utilities.GameView;
@@ -14,7 +15,7 @@ import java.awt.*;
  * @see Position
  */
 
-public class SceneryRight extends CollidingGameObject {
+public class SceneryRight extends CollidingGameObject implements BlockingGameObject {
 
     /**
      * Creates the scenery with one border on the left.
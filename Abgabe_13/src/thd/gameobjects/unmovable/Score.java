@@ -2,6 +2,7 @@ package thd.gameobjects.unmovable;
 
 import thd.game.managers.GamePlayManager;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.HudGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.movable.JetFighter;
 import thd.game.utilities.GameView;
@@ -16,8 +17,9 @@ import java.awt.*;
  * @see Position
  */
 
-public class Score extends GameObject {
+public class Score extends GameObject implements HudGameObject {
     private int scorePoints;
+    private int drawnScorePoints;
 
     /**
      * Creates a new score display which starts at zero.
@@ -66,7 +68,13 @@ public class Score extends GameObject {
      */
     @Override
     public void addToCanvas() {
+        drawnScorePoints = scorePoints;
         gameView.addTextToCanvas(String.valueOf(scorePoints), position.getX(), position.getY(),
                 size, true, Color.BLACK, rotation, "font.ttf");
     }
+
+    @Override
+    public boolean hasChanged() {
+        return scorePoints != drawnScorePoints;
+    }
 }
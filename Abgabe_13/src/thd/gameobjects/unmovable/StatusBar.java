@@ -2,6 +2,7 @@ package thd.gameobjects.unmovable;
 
 import thd.game.managers.GamePlayManager;
 import thd.gameobjects.base.GameObject;
+import thd.gameobjects.base.HudGameObject;
 import thd.gameobjects.base.Position;
 import thd.gameobjects.movable.Bridge;
 import thd.game.utilities.GameView;
@@ -17,8 +18,9 @@ import java.awt.*;
  * @see Position
  */
 
-public class StatusBar extends GameObject {
+public class StatusBar extends GameObject implements HudGameObject {
     private int levelSection;
+    private int drawnLevelSection;
 
     /**
      * Creates a status bar object, and it starts with level one.
@@ -70,11 +72,15 @@ public class StatusBar extends GameObject {
      */
     @Override
     public void addToCanvas() {
+        drawnLevelSection = levelSection;
         gameView.addRectangleToCanvas(position.getX(), position.getY() + 2, width, 5, 3, true, Color.BLACK);
         gameView.addRectangleToCanvas(position.getX(), position.getY() + 10, width, height, 3, true, Color.LIGHT_GRAY);
         gameView.addTextToCanvas("P1", position.getX() + 100, position.getY() + 14, size, true, Color.BLACK, 0, "font.ttf");
         gameView.addTextToCanvas(String.valueOf(levelSection), position.getX() + 1100, position.getY() + 14, size, true, Color.BLACK, 0, "font.ttf");
     }
 
-
+    @Override
+    public boolean hasChanged() {
+        return levelSection != drawnLevelSection;
+    }
 }